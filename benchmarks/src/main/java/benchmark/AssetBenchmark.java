@@ -0,0 +1,56 @@
+package benchmark;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import util.AssetManager;
+
+/**
+ * AssetBenchmark - AssetManager.loadImage dengan cache kosong (cold) dan terisi (warm)
+ * Jalankan dari root repo: tanpa folder assets/ yang terukur adalah pembuatan placeholder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class AssetBenchmark {
+
+    @Param({"background.png", "player.png", "bandit.png", "rock.png"})
+    public String asset;
+
+    @Setup
+    public void warmCache() {
+        AssetManager.loadImage(asset);
+    }
+
+    /**
+     * Baca dan decode dari disk setiap kali (cache dikosongkan dulu)
+     */
+    @Benchmark
+    public BufferedImage cold() {
+        AssetManager.clearCache();
+        return AssetManager.loadImage(asset);
+    }
+
+    /**
+     * Lookup cache saja
+     */
+    @Benchmark
+    public BufferedImage warm() {
+        return AssetManager.loadImage(asset);
+    }
+}
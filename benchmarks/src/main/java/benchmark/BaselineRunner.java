@@ -0,0 +1,32 @@
+package benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BaselineRunner - Jalankan semua benchmark dengan profiler GC dan alokasi
+ * GCProfiler menambahkan gc.alloc.rate / gc.alloc.rate.norm (byte per operasi)
+ * dan jumlah/waktu GC. Hasil ditulis ke JSON untuk dibandingkan antar commit.
+ *
+ * Pemakaian: java -cp benchmarks/target/benchmarks.jar benchmark.BaselineRunner [opsi JMH]
+ */
+public class BaselineRunner {
+
+    private static final String RESULT_FILE = "benchmarks/target/jmh-baseline.json";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))       // Opsi JMH dari command line tetap berlaku
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(RESULT_FILE)
+            .build();
+        new Runner(options).run();
+    }
+}
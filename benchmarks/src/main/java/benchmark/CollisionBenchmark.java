@@ -0,0 +1,137 @@
+package benchmark;
+
+import java.awt.Rectangle;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ecs.Archetype;
+import model.GameWorld;
+import util.SpatialGrid;
+
+/**
+ * CollisionBenchmark - Peluru vs bandit: cara lama (Rectangle per pasangan)
+ * dibandingkan dengan SpatialGrid yang dipakai WorldUpdater.
+ * Entitas disimpan di archetype GameWorld seperti di simulasi.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CollisionBenchmark {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 600;
+    private static final int CELL_SIZE = 64;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int entities;
+
+    private Archetype bullets;
+    private Archetype bandits;
+    private SpatialGrid grid;
+    private int[] cells;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(7);
+        GameWorld world = new GameWorld();
+        int bulletCount = entities / 2;
+        for (int i = 0; i < bulletCount; i++) {
+            world.spawnBullet(random.nextInt(WIDTH), random.nextInt(HEIGHT), 0, 0);
+        }
+        for (int i = bulletCount; i < entities; i++) {
+            world.spawnBandit(random.nextInt(WIDTH - 40), random.nextInt(HEIGHT - 40));
+        }
+        bullets = world.getBullets();
+        bandits = world.getBandits();
+        grid = new SpatialGrid(WIDTH, HEIGHT, CELL_SIZE);
+        cells = new int[bandits.getCount()];
+    }
+
+    /**
+     * Versi sebelum WorldUpdater: Rectangle baru + intersects untuk setiap pasangan
+     */
+    @Benchmark
+    public int naiveRectangles() {
+        double[] bxs = bullets.getXs();
+        double[] bys = bullets.getYs();
+        int[] bsizes = bullets.getColliderSizes();
+        double[] xs = bandits.getXs();
+        double[] ys = bandits.getYs();
+        int[] sizes = bandits.getColliderSizes();
+
+        int hits = 0;
+        for (int i = 0, n = bullets.getCount(); i < n; i++) {
+            Rectangle bounds = new Rectangle((int) bxs[i], (int) bys[i], bsizes[i], bsizes[i]);
+            for (int j = 0, m = bandits.getCount(); j < m; j++) {
+                if (bounds.intersects(new Rectangle((int) xs[j], (int) ys[j], sizes[j], sizes[j]))) {
+                    hits++;
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Bangun grid bandit lalu query sel di sekitar setiap peluru
+     */
+    @Benchmark
+    public int spatialGrid() {
+        double[] xs = bandits.getXs();
+        double[] ys = bandits.getYs();
+        int m = bandits.getCount();
+        for (int i = 0; i < m; i++) {
+            cells[i] = grid.cellOf((int) xs[i], (int) ys[i]);
+        }
+        grid.build(cells, m);
+
+        double[] bxs = bullets.getXs();
+        double[] bys = bullets.getYs();
+        int[] bsizes = bullets.getColliderSizes();
+        int hits = 0;
+        for (int i = 0, n = bullets.getCount(); i < n; i++) {
+            if (hitsAny((int) bxs[i], (int) bys[i], bsizes[i])) hits++;
+        }
+        return hits;
+    }
+
+    private boolean hitsAny(int bx, int by, int bs) {
+        double[] xs = bandits.getXs();
+        double[] ys = bandits.getYs();
+        int[] sizes = bandits.getColliderSizes();
+        int c0 = grid.colOf(bx - CELL_SIZE);
+        int c1 = grid.colOf(bx + bs);
+        int r0 = grid.rowOf(by - CELL_SIZE);
+        int r1 = grid.rowOf(by + bs);
+        for (int row = r0; row <= r1; row++) {
+            for (int col = c0; col <= c1; col++) {
+                for (int k = grid.start(col, row), end = grid.end(col, row); k < end; k++) {
+                    int b = grid.item(k);
+                    int x = (int) xs[b];
+                    int y = (int) ys[b];
+                    int size = sizes[b];
+                    if (bx < x + size && x < bx + bs
+                            && by < y + size && y < by + bs) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,101 @@
+package benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import database.Database;
+import database.SqliteHistoryRepository;
+import model.HistoryModel;
+import model.LeaderboardWindow;
+
+/**
+ * DatabaseBenchmark - Simpan dan baca history lewat SqliteHistoryRepository
+ * Memakai file database sementara (-Ddb.file) yang diisi sejumlah baris awal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatabaseBenchmark {
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private Path dbFile;
+    private SqliteHistoryRepository repository;
+    private HistoryModel sample;
+
+    @Setup
+    public void setup() throws Exception {
+        dbFile = Files.createTempFile("tmd-bench", ".db");
+        System.setProperty("db.file", dbFile.toString());    // Harus sebelum Database dimuat
+        Database.init();
+
+        Random random = new Random(11);
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                 "INSERT INTO history(username, score, ammo, bullets_missed, bullets_fired, duration_ms) "
+               + "VALUES(?, ?, ?, ?, ?, ?)")) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < rows; i++) {
+                ps.setString(1, "player" + random.nextInt(Math.max(1, rows / 10)));
+                ps.setInt(2, random.nextInt(10_000));
+                ps.setInt(3, random.nextInt(20));
+                ps.setInt(4, random.nextInt(50));
+                ps.setInt(5, random.nextInt(100));
+                ps.setLong(6, random.nextInt(600_000));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            conn.commit();
+        }
+
+        repository = new SqliteHistoryRepository();
+        sample = new HistoryModel("bench", 1234, 5, 6, 7, 60_000, 0);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(dbFile);
+    }
+
+    @Benchmark
+    public void save() {
+        repository.save(sample);
+    }
+
+    @Benchmark
+    public List<HistoryModel> loadTopAllTime() {
+        return repository.findTop(LeaderboardWindow.ALL_TIME, 10);
+    }
+
+    @Benchmark
+    public List<HistoryModel> loadTopDaily() {
+        return repository.findTop(LeaderboardWindow.DAILY, 10);
+    }
+
+    @Benchmark
+    public List<String> usernamePrefix() {
+        return repository.findUsernamesByPrefix("player1", 5);
+    }
+}
@@ -0,0 +1,79 @@
+package benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.*;
+import view.GamePanel;
+
+/**
+ * RenderBenchmark - GamePanel.paint ke BufferedImage offscreen (tanpa window)
+ * Jalankan dari root repo agar sprite asli di assets/ ikut terbaca.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int entities;
+
+    private GamePanel panel;
+    private BufferedImage frame;
+    private Graphics2D g;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(3);
+        GameWorld world = new GameWorld();
+        List<RockModel> rocks = new ArrayList<>();
+        rocks.add(new RockModel(150, 420, 64, 64));
+        rocks.add(new RockModel(600, 400, 64, 64));
+        rocks.add(new RockModel(560, 180, 64, 64));
+
+        for (int i = 0; i < entities / 2; i++) {
+            world.spawnBandit(random.nextInt(760), random.nextInt(560));
+        }
+        for (int i = 0; i < entities / 4; i++) {
+            world.spawnBullet(random.nextInt(800), random.nextInt(600), 0, 0);
+            world.spawnEnemyBullet(random.nextInt(800), random.nextInt(600), 0, 0);
+        }
+
+        panel = new GamePanel(new PlayerModel(380, 260, "bench"),
+            world.getBullets(), rocks, world.getBandits(), world.getEnemyBullets());
+        panel.setSize(800, 600);
+        frame = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        g = frame.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        panel.paint(g);
+        return frame;
+    }
+}
@@ -0,0 +1,88 @@
+package presenter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.*;
+import util.FlowField;
+import util.RockMap;
+
+/**
+ * WorldTickBenchmark - Biaya satu tick dunia (sama dengan GameSimulation.tick)
+ * pada 10 / 100 / 1k / 10k entitas.
+ * Berada di package presenter karena WorldUpdater bersifat package-private.
+ *
+ * Susunan dunia dibuat stabil agar setiap iterasi mengukur jumlah entitas yang sama:
+ * bandit (50%) mulai dari bagian bawah dan berjalan mengikuti flow field menuju player,
+ * peluru player (25%) dan peluru musuh (25%) diam di jalur atas yang tidak pernah
+ * dilewati bandit maupun player, sehingga tetap ikut dihitung di setiap tahap update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class WorldTickBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int entities;
+
+    private PlayerModel player;
+    private PlayerStatsModel stats;
+    private WorldUpdater updater;
+
+    @Setup(Level.Iteration)
+    public void buildWorld() {
+        int width = GameSimulation.SCREEN_WIDTH;
+        int height = GameSimulation.SCREEN_HEIGHT;
+        Random random = new Random(42);
+
+        GameWorld world = new GameWorld();
+        List<RockModel> rocks = new ArrayList<>();
+        rocks.add(new RockModel(150, 420, 64, 64));
+        rocks.add(new RockModel(600, 400, 64, 64));
+        rocks.add(new RockModel(560, 180, 64, 64));
+
+        int banditCount = Math.max(1, entities / 2);
+        int bulletCount = (entities - banditCount) / 2;
+        int enemyBulletCount = entities - banditCount - bulletCount;
+
+        for (int i = 0; i < banditCount; i++) {
+            world.spawnBandit(random.nextInt(width - 40), 320 + random.nextInt(240));
+        }
+        for (int i = 0; i < bulletCount; i++) {
+            world.spawnBullet(random.nextInt(width - 6), random.nextInt(60), 0, 0);
+        }
+        for (int i = 0; i < enemyBulletCount; i++) {
+            world.spawnEnemyBullet(random.nextInt(width - 6), random.nextInt(60), 0, 0);
+        }
+
+        FlowField flowField = new FlowField(width, height);
+        flowField.setObstacles(rocks, 40);
+
+        player = new PlayerModel(380, 260, "bench");
+        stats = new PlayerStatsModel("bench");
+        updater = new WorldUpdater(world, new RockMap(rocks, width, height), flowField, width, height);
+    }
+
+    @Benchmark
+    public int tick() {
+        return updater.update(player, stats);
+    }
+}
@@ -1,9 +1,19 @@
 package database;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import util.GameEvents;
 
 /**
  * Database - Kelas untuk mengelola koneksi dan inisialisasi database SQLite
@@ -11,10 +21,24 @@ import java.sql.Statement;
  */
 public class Database {
     
-    // URL koneksi database SQLite
-    private static final String DATABASE_URL = "jdbc:sqlite:game.db";
+    // URL koneksi database SQLite (file bisa diganti lewat -Ddb.file, misal untuk benchmark)
+    private static final String DATABASE_URL = "jdbc:sqlite:" + System.getProperty("db.file", "game.db");
     private static final String JDBC_DRIVER = "org.sqlite.JDBC";
     
+    // Retensi rollup leaderboard (ekspresi SQLite, dipakai backfill dan pruning)
+    static final String DAILY_ROLLUP_CUTOFF = "date('now', '-7 days')";
+    static final String WEEKLY_ROLLUP_CUTOFF = "date('now', '-35 days')";
+    private static final long ROLLUP_PRUNE_INTERVAL_HOURS = 6;
+    
+    /**
+     * Ekspresi SQLite bucket mingguan: tanggal hari Senin dari minggu waktu tersebut
+     * Sama dengan LeaderboardWindow (minggu mulai Senin, berlanjut melewati tahun baru)
+     * @param dateExpr Ekspresi tanggal/waktu SQLite, misal "created_at" atau "'now'"
+     */
+    static String weekBucket(String dateExpr) {
+        return "date(" + dateExpr + ", '-6 days', 'weekday 1')";
+    }
+    
     /**
      * Mendapatkan koneksi ke database SQLite
      * @return Connection object atau null jika gagal
@@ -66,42 +90,12 @@ public class Database {
     }
     
     /**
-     * Buat tabel-tabel yang diperlukan
-     * Tabel history: menyimpan skor dan statistik pemain
+     * Buat / perbarui tabel yang diperlukan
+     * Skema dikelola oleh SchemaMigrator berdasarkan PRAGMA user_version
      */
     private static void createTables(Connection conn) throws SQLException {
-        try (Statement stmt = conn.createStatement()) {
-            
-            // Tabel history dengan kolom:
-            // - id: Primary key auto increment
-            // - username: Nama pemain
-            // - score: Skor akhir
-            // - ammo: Peluru tersisa
-            // - bullets_missed: Jumlah tembakan meleset
-            // - created_at: Waktu permainan
-            String createHistoryTable = """
-                CREATE TABLE IF NOT EXISTS history (
-                    id INTEGER PRIMARY KEY AUTOINCREMENT,
-                    username TEXT NOT NULL,
-                    score INTEGER NOT NULL DEFAULT 0,
-                    ammo INTEGER NOT NULL DEFAULT 0,
-                    bullets_missed INTEGER NOT NULL DEFAULT 0,
-                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-                )
-                """;
-            
-            stmt.execute(createHistoryTable);
-            System.out.println("✓ Table 'history' ready");
-            
-            // Index untuk query lebih cepat (sort by score)
-            String createScoreIndex = """
-                CREATE INDEX IF NOT EXISTS idx_score 
-                ON history(score DESC)
-                """;
-            
-            stmt.execute(createScoreIndex);
-            System.out.println("✓ Index on 'score' ready");
-        }
+        SchemaMigrator.migrate(conn);
+        System.out.println("✓ Schema version " + SchemaMigrator.LATEST_VERSION);
     }
     
     /**
@@ -116,4 +110,97 @@ public class Database {
             return false;
         }
     }
+
+    /**
+     * Export seluruh history ke file (untuk digabung di mesin lain)
+     * @return jumlah baris yang diexport, -1 jika gagal
+     */
+    public static long exportHistory(Path file, HistoryTransfer.Format format) {
+        GameEvents.DatabaseQuery event = beginQuery("history.export");
+        long rows = -1;
+        try (Connection conn = getConnection();
+             OutputStream out = Files.newOutputStream(file)) {
+            if (conn != null) {
+                rows = HistoryTransfer.export(conn, out, format);
+            }
+        } catch (SQLException | IOException e) {
+            System.err.println("Error exporting history: " + e.getMessage());
+        }
+        return endQuery(event, rows);
+    }
+
+    /**
+     * Import history dari file hasil export, duplikat dilewati
+     * @return jumlah baris baru, -1 jika gagal
+     */
+    public static long importHistory(Path file, HistoryTransfer.Format format) {
+        GameEvents.DatabaseQuery event = beginQuery("history.import");
+        long rows = -1;
+        try (Connection conn = getConnection();
+             InputStream in = Files.newInputStream(file)) {
+            if (conn != null) {
+                rows = HistoryTransfer.importFrom(conn, in, format);
+            }
+        } catch (SQLException | IOException e) {
+            System.err.println("Error importing history: " + e.getMessage());
+        }
+        return endQuery(event, rows);
+    }
+
+    /**
+     * Hapus bucket rollup harian/mingguan yang sudah lewat masa retensi
+     * @return jumlah baris yang dihapus, -1 jika gagal
+     */
+    public static int pruneLeaderboardRollup() {
+        String sql = "DELETE FROM leaderboard_rollup "
+                   + "WHERE (period = 'D' AND bucket < " + DAILY_ROLLUP_CUTOFF + ") "
+                   + "OR (period = 'W' AND bucket < " + weekBucket(WEEKLY_ROLLUP_CUTOFF) + ")";
+        
+        GameEvents.DatabaseQuery event = beginQuery("rollup.prune");
+        int rows = -1;
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement()) {
+            rows = stmt.executeUpdate(sql);
+        } catch (Exception e) {
+            System.err.println("Error pruning leaderboard rollup: " + e.getMessage());
+        }
+        endQuery(event, rows);
+        return rows;
+    }
+    
+    /**
+     * Jalankan pruning rollup secara terjadwal di thread daemon
+     */
+    public static void startMaintenance() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "db-maintenance");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleAtFixedRate(Database::pruneLeaderboardRollup,
+            0, ROLLUP_PRUNE_INTERVAL_HOURS, TimeUnit.HOURS);
+    }
+    
+    // ==================== JFR ====================
+    
+    /**
+     * Mulai event JFR untuk satu operasi database (durasi termasuk buka koneksi)
+     */
+    static GameEvents.DatabaseQuery beginQuery(String operation) {
+        GameEvents.DatabaseQuery event = new GameEvents.DatabaseQuery();
+        event.begin();
+        event.operation = operation;
+        return event;
+    }
+    
+    /**
+     * Commit event JFR; rows negatif berarti operasi gagal
+     * @return rows apa adanya, agar bisa langsung di-return pemanggil
+     */
+    static long endQuery(GameEvents.DatabaseQuery event, long rows) {
+        event.rows = Math.max(rows, 0);
+        event.success = rows >= 0;
+        event.commit();
+        return rows;
+    }
 }
\ No newline at end of file
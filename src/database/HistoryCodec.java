@@ -0,0 +1,260 @@
+package database;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import model.HistoryModel;
+
+/**
+ * HistoryCodec - Format serialisasi record history
+ * Biner: setiap field ditulis sebagai varint (zigzag untuk angka bertanda),
+ * username diawali panjang byte UTF-8. CSV: satu record per baris (RFC 4180).
+ */
+public class HistoryCodec {
+
+    // ==================== KONSTANTA ====================
+    public static final int MAGIC = 0x544D4448;             // "TMDH"
+    public static final int FORMAT_VERSION = 1;
+    public static final String CSV_HEADER =
+        "username,score,ammo,bullets_missed,bullets_fired,duration_ms,created_at";
+
+    private static final int RECORD_MARKER = 1;             // Record berikutnya ada
+    private static final int END_MARKER = 0;                // Akhir stream
+    private static final int MAX_USERNAME_BYTES = 4096;     // Batas aman saat membaca
+
+    // ==================== BINER ====================
+
+    /**
+     * Tulis header stream biner
+     */
+    public static void writeHeader(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+    }
+
+    /**
+     * Baca dan validasi header stream biner
+     */
+    public static void readHeader(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a history stream (bad magic)");
+        }
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported history format version: " + version);
+        }
+    }
+
+    /**
+     * Tulis satu record dengan format length-prefixed
+     */
+    public static void writeRecord(DataOutput out, HistoryModel h) throws IOException {
+        byte[] name = h.getUsername().getBytes(StandardCharsets.UTF_8);
+        out.writeByte(RECORD_MARKER);
+        writeVarLong(out, name.length);
+        out.write(name);
+        writeVarLong(out, zigzag(h.getScore()));
+        writeVarLong(out, zigzag(h.getAmmo()));
+        writeVarLong(out, zigzag(h.getBulletsMissed()));
+        writeVarLong(out, zigzag(h.getBulletsFired()));
+        writeVarLong(out, zigzag(h.getDurationMs()));
+        writeVarLong(out, zigzag(h.getCreatedAt()));
+    }
+
+    /**
+     * Tulis penanda akhir stream
+     */
+    public static void writeEnd(DataOutput out) throws IOException {
+        out.writeByte(END_MARKER);
+    }
+
+    /**
+     * Baca satu record; EOF di posisi penanda dianggap akhir stream
+     * (untuk log yang belum ditutup)
+     * @return record berikutnya atau null jika sudah mencapai akhir
+     */
+    public static HistoryModel readRecord(DataInput in) throws IOException {
+        return readRecord(in, false);
+    }
+
+    /**
+     * Baca satu record
+     * @param requireEnd true jika stream wajib ditutup END_MARKER (file export);
+     *                   EOF sebelum penanda akhir dianggap file terpotong
+     * @return record berikutnya atau null jika sudah mencapai penanda akhir
+     */
+    public static HistoryModel readRecord(DataInput in, boolean requireEnd) throws IOException {
+        int marker;
+        try {
+            marker = in.readUnsignedByte();
+        } catch (EOFException e) {
+            if (requireEnd) {
+                throw new IOException("Truncated history stream (missing end marker)");
+            }
+            return null;
+        }
+        if (marker == END_MARKER) return null;
+        if (marker != RECORD_MARKER) {
+            throw new IOException("Corrupt history stream (marker " + marker + ")");
+        }
+
+        int nameLength = (int) readVarLong(in);
+        if (nameLength < 0 || nameLength > MAX_USERNAME_BYTES) {
+            throw new IOException("Corrupt history stream (username length " + nameLength + ")");
+        }
+        byte[] name = new byte[nameLength];
+        in.readFully(name);
+
+        return new HistoryModel(
+            new String(name, StandardCharsets.UTF_8),
+            (int) unzigzag(readVarLong(in)),
+            (int) unzigzag(readVarLong(in)),
+            (int) unzigzag(readVarLong(in)),
+            (int) unzigzag(readVarLong(in)),
+            unzigzag(readVarLong(in)),
+            unzigzag(readVarLong(in))
+        );
+    }
+
+    // ==================== CSV ====================
+
+    /**
+     * Tulis satu baris CSV (tanpa header)
+     */
+    public static void writeCsvRecord(Writer out, HistoryModel h) throws IOException {
+        writeCsvField(out, h.getUsername());
+        out.write(',');
+        out.write(Integer.toString(h.getScore()));
+        out.write(',');
+        out.write(Integer.toString(h.getAmmo()));
+        out.write(',');
+        out.write(Integer.toString(h.getBulletsMissed()));
+        out.write(',');
+        out.write(Integer.toString(h.getBulletsFired()));
+        out.write(',');
+        out.write(Long.toString(h.getDurationMs()));
+        out.write(',');
+        out.write(Long.toString(h.getCreatedAt()));
+        out.write('\n');
+    }
+
+    /**
+     * Baca satu baris CSV menjadi record
+     * @param fields buffer yang dipakai ulang untuk menampung 7 kolom
+     * @return record atau null jika EOF
+     */
+    public static HistoryModel readCsvRecord(Reader in, String[] fields) throws IOException {
+        if (!readCsvRow(in, fields)) return null;
+        try {
+            return new HistoryModel(
+                fields[0],
+                Integer.parseInt(fields[1]),
+                Integer.parseInt(fields[2]),
+                Integer.parseInt(fields[3]),
+                Integer.parseInt(fields[4]),
+                Long.parseLong(fields[5]),
+                Long.parseLong(fields[6])
+            );
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid CSV history row for user: " + fields[0], e);
+        }
+    }
+
+    /**
+     * Parser CSV sederhana berbasis karakter (mendukung kutip dan newline di dalam kutip)
+     * @return false jika EOF sebelum ada karakter yang dibaca
+     */
+    static boolean readCsvRow(Reader in, String[] fields) throws IOException {
+        StringBuilder field = new StringBuilder();
+        int index = 0;
+        boolean quoted = false;
+        boolean any = false;
+
+        int c;
+        while ((c = in.read()) != -1) {
+            any = true;
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    int next = in.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) in.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                storeField(fields, index++, field);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+
+        if (!any) return false;
+        storeField(fields, index++, field);
+        if (index != fields.length) {
+            throw new IOException("Expected " + fields.length + " CSV columns, got " + index);
+        }
+        return true;
+    }
+
+    private static void storeField(String[] fields, int index, StringBuilder field) throws IOException {
+        if (index >= fields.length) {
+            throw new IOException("Too many CSV columns");
+        }
+        fields[index] = field.toString();
+        field.setLength(0);
+    }
+
+    private static void writeCsvField(Writer out, String value) throws IOException {
+        boolean needsQuote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                          || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    // ==================== VARINT ====================
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
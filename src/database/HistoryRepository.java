@@ -0,0 +1,52 @@
+package database;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import model.HistoryModel;
+import model.LeaderboardWindow;
+
+/**
+ * HistoryRepository - Abstraksi penyimpanan history permainan
+ * Memisahkan GamePresenter dari detail JDBC sehingga backend bisa diganti
+ * (SQLite, in-memory untuk test/benchmark, atau file log append-only)
+ */
+public interface HistoryRepository {
+
+    /**
+     * Simpan satu record history
+     */
+    void save(HistoryModel history);
+
+    /**
+     * Ambil history dengan skor tertinggi
+     * @param limit jumlah maksimal record
+     */
+    List<HistoryModel> findTop(int limit);
+
+    /**
+     * Ambil leaderboard untuk rentang waktu tertentu
+     * DAILY/WEEKLY berisi skor terbaik per pemain, ALL_TIME sama dengan findTop(limit)
+     */
+    List<HistoryModel> findTop(LeaderboardWindow window, int limit);
+
+    /**
+     * Cari username unik yang diawali prefix (tidak peka huruf besar/kecil)
+     * Prefix kosong mengembalikan semua username sampai limit
+     * @param limit jumlah maksimal hasil
+     */
+    List<String> findUsernamesByPrefix(String prefix, int limit);
+
+    /**
+     * Pilih backend berdasarkan nama (dari system property "history.store")
+     * @param kind "sqlite" (default), "memory", atau "log"
+     */
+    static HistoryRepository create(String kind) {
+        if (kind == null) kind = "sqlite";
+        return switch (kind.toLowerCase()) {
+            case "memory" -> new InMemoryHistoryRepository();
+            case "log" -> new LogFileHistoryRepository(Path.of("history.log"));
+            default -> new SqliteHistoryRepository();
+        };
+    }
+}
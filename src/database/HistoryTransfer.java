@@ -0,0 +1,218 @@
+package database;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import model.HistoryModel;
+
+/**
+ * HistoryTransfer - Export / import tabel history secara streaming
+ * Dipakai untuk menggabungkan leaderboard dari banyak mesin.
+ * Memori tetap konstan: export membaca per chunk (keyset pagination),
+ * import menulis per batch di dalam satu transaksi.
+ */
+public class HistoryTransfer {
+
+    /** Format file transfer */
+    public enum Format { BINARY, CSV }
+
+    // ==================== KONSTANTA ====================
+    private static final int EXPORT_CHUNK_SIZE = 1000;     // Baris per query export
+    private static final int IMPORT_BATCH_SIZE = 1000;     // Baris per executeBatch
+
+    private static final String EXPORT_SQL = """
+        SELECT id, username, score, ammo, bullets_missed, bullets_fired, duration_ms,
+               IFNULL(CAST(strftime('%s', created_at) AS INTEGER), 0)
+        FROM history WHERE id > ? ORDER BY id LIMIT ?
+        """;
+
+    // Baris dianggap duplikat jika username, waktu dan skor sama (idx_history_dedup).
+    // Waktu tidak diketahui (<= 0) disimpan apa adanya sebagai epoch 0, dengan ekspresi
+    // yang sama di insert dan cek duplikat, sehingga import ulang tetap idempoten
+    private static final String IMPORT_SQL = """
+        INSERT INTO history(username, score, ammo, bullets_missed, bullets_fired, duration_ms, created_at)
+        SELECT ?, ?, ?, ?, ?, ?, datetime(MAX(?, 0), 'unixepoch')
+        WHERE NOT EXISTS (
+            SELECT 1 FROM history
+            WHERE username = ? AND created_at = datetime(MAX(?, 0), 'unixepoch') AND score = ?
+        )
+        """;
+
+    // ==================== EXPORT ====================
+
+    /**
+     * Export seluruh history ke stream
+     * @return jumlah baris yang ditulis
+     */
+    public static long export(Connection conn, OutputStream out, Format format) throws SQLException, IOException {
+        if (format == Format.CSV) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(HistoryCodec.CSV_HEADER);
+            writer.write('\n');
+            long count = streamRows(conn, h -> HistoryCodec.writeCsvRecord(writer, h));
+            writer.flush();
+            return count;
+        }
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        HistoryCodec.writeHeader(data);
+        long count = streamRows(conn, h -> HistoryCodec.writeRecord(data, h));
+        HistoryCodec.writeEnd(data);
+        data.flush();
+        return count;
+    }
+
+    /**
+     * Baca history per chunk berdasarkan id (memakai PRIMARY KEY, tanpa OFFSET)
+     */
+    private static long streamRows(Connection conn, RecordSink sink) throws SQLException, IOException {
+        long lastId = 0;
+        long count = 0;
+
+        try (PreparedStatement ps = conn.prepareStatement(EXPORT_SQL)) {
+            while (true) {
+                ps.setLong(1, lastId);
+                ps.setInt(2, EXPORT_CHUNK_SIZE);
+
+                int rowsInChunk = 0;
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        lastId = rs.getLong(1);
+                        sink.accept(new HistoryModel(
+                            rs.getString(2),
+                            rs.getInt(3),
+                            rs.getInt(4),
+                            rs.getInt(5),
+                            rs.getInt(6),
+                            rs.getLong(7),
+                            rs.getLong(8)
+                        ));
+                        rowsInChunk++;
+                    }
+                }
+
+                count += rowsInChunk;
+                if (rowsInChunk < EXPORT_CHUNK_SIZE) break;
+            }
+        }
+        return count;
+    }
+
+    // ==================== IMPORT ====================
+
+    /**
+     * Import history dari stream dalam satu transaksi
+     * Record yang sudah ada (username + waktu + skor) dilewati
+     * @return jumlah baris yang benar-benar ditambahkan
+     */
+    public static long importFrom(Connection conn, InputStream in, Format format) throws SQLException, IOException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+
+        try (PreparedStatement ps = conn.prepareStatement(IMPORT_SQL)) {
+            long inserted = (format == Format.CSV)
+                ? importCsv(ps, in)
+                : importBinary(ps, in);
+            conn.commit();
+            return inserted;
+        } catch (SQLException | IOException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static long importBinary(PreparedStatement ps, InputStream in) throws SQLException, IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        HistoryCodec.readHeader(data);
+
+        BatchWriter batch = new BatchWriter(ps);
+        HistoryModel h;
+        // File export selalu diakhiri END_MARKER; tanpa itu file terpotong dan import dibatalkan
+        while ((h = HistoryCodec.readRecord(data, true)) != null) {
+            batch.add(h);
+        }
+        return batch.finish();
+    }
+
+    private static long importCsv(PreparedStatement ps, InputStream in) throws SQLException, IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String[] fields = new String[7];
+
+        // Lewati baris header
+        if (!HistoryCodec.readCsvRow(reader, fields)) return 0;
+
+        BatchWriter batch = new BatchWriter(ps);
+        HistoryModel h;
+        while ((h = HistoryCodec.readCsvRecord(reader, fields)) != null) {
+            batch.add(h);
+        }
+        return batch.finish();
+    }
+
+    // ==================== HELPER ====================
+
+    @FunctionalInterface
+    private interface RecordSink {
+        void accept(HistoryModel h) throws IOException;
+    }
+
+    /**
+     * Mengumpulkan insert dan mengirimnya per IMPORT_BATCH_SIZE baris
+     */
+    private static class BatchWriter {
+        private final PreparedStatement ps;
+        private int pending = 0;
+        private long inserted = 0;
+
+        BatchWriter(PreparedStatement ps) {
+            this.ps = ps;
+        }
+
+        void add(HistoryModel h) throws SQLException {
+            ps.setString(1, h.getUsername());
+            ps.setInt(2, h.getScore());
+            ps.setInt(3, h.getAmmo());
+            ps.setInt(4, h.getBulletsMissed());
+            ps.setInt(5, h.getBulletsFired());
+            ps.setLong(6, h.getDurationMs());
+            ps.setLong(7, h.getCreatedAt());
+            ps.setString(8, h.getUsername());
+            ps.setLong(9, h.getCreatedAt());
+            ps.setInt(10, h.getScore());
+            ps.addBatch();
+
+            if (++pending == IMPORT_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        long finish() throws SQLException {
+            if (pending > 0) flush();
+            return inserted;
+        }
+
+        private void flush() throws SQLException {
+            for (int result : ps.executeBatch()) {
+                if (result > 0) inserted += result;
+            }
+            pending = 0;
+        }
+    }
+}
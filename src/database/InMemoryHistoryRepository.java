@@ -0,0 +1,108 @@
+package database;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import model.HistoryModel;
+import model.LeaderboardWindow;
+
+/**
+ * InMemoryHistoryRepository - Backend tanpa I/O untuk test dan benchmark
+ * Lock-free: ConcurrentSkipListSet yang selalu terurut berdasarkan skor,
+ * sehingga findTop hanya membaca N elemen pertama
+ */
+public class InMemoryHistoryRepository implements HistoryRepository {
+
+    /** Record dengan nomor urut agar skor yang sama tetap unik dan stabil */
+    private record Entry(HistoryModel history, long sequence) {}
+
+    private static final Comparator<Entry> BY_SCORE_DESC =
+        Comparator.<Entry>comparingInt(e -> -e.history().getScore())
+                  .thenComparingLong(Entry::sequence);
+
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(BY_SCORE_DESC);
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentSkipListSet<String> usernames =
+        new ConcurrentSkipListSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    @Override
+    public void save(HistoryModel history) {
+        entries.add(new Entry(stamp(history), sequence.incrementAndGet()));
+        usernames.add(history.getUsername());
+    }
+
+    @Override
+    public List<HistoryModel> findTop(int limit) {
+        List<HistoryModel> list = new ArrayList<>(Math.min(limit, 64));
+        Iterator<Entry> it = entries.iterator();
+        while (it.hasNext() && list.size() < limit) {
+            list.add(it.next().history());
+        }
+        return list;
+    }
+
+    @Override
+    public List<HistoryModel> findTop(LeaderboardWindow window, int limit) {
+        if (window == LeaderboardWindow.ALL_TIME) {
+            return findTop(limit);
+        }
+        return topInWindow(entries.stream().map(Entry::history).iterator(), window, limit);
+    }
+
+    @Override
+    public List<String> findUsernamesByPrefix(String prefix, int limit) {
+        return prefixRange(usernames, prefix, limit);
+    }
+
+    /** Jumlah record yang tersimpan */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Skor terbaik per pemain dalam jendela waktu, dari iterator yang sudah terurut skor menurun
+     * Berhenti segera setelah limit terpenuhi
+     */
+    static List<HistoryModel> topInWindow(Iterator<HistoryModel> byScoreDesc,
+                                          LeaderboardWindow window, int limit) {
+        long now = System.currentTimeMillis() / 1000;
+        List<HistoryModel> list = new ArrayList<>(Math.min(limit, 64));
+        Set<String> seen = new HashSet<>();
+        while (byScoreDesc.hasNext() && list.size() < limit) {
+            HistoryModel h = byScoreDesc.next();
+            if (window.contains(h.getCreatedAt(), now) && seen.add(h.getUsername())) {
+                list.add(h);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Ambil elemen set terurut (CASE_INSENSITIVE_ORDER) yang diawali prefix
+     */
+    static List<String> prefixRange(NavigableSet<String> sorted, String prefix, int limit) {
+        List<String> list = new ArrayList<>(Math.min(limit, 16));
+        for (String name : sorted.subSet(prefix, true, prefix + Character.MAX_VALUE, false)) {
+            if (list.size() >= limit) break;
+            list.add(name);
+        }
+        return list;
+    }
+
+    /**
+     * Isi created_at jika belum ada (SQLite melakukannya lewat DEFAULT)
+     */
+    static HistoryModel stamp(HistoryModel h) {
+        if (h.getCreatedAt() > 0) return h;
+        return new HistoryModel(h.getUsername(), h.getScore(), h.getAmmo(), h.getBulletsMissed(),
+                                h.getBulletsFired(), h.getDurationMs(),
+                                System.currentTimeMillis() / 1000);
+    }
+}
@@ -0,0 +1,72 @@
+package database;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import model.LevelLayout;
+import model.RockModel;
+
+/**
+ * LevelCodec - Format biner isi LevelLayout (kolom BLOB level_layout)
+ * Seed, ukuran arena, dan versi generator disimpan di kolom tersendiri;
+ * blob hanya berisi titik spawn player dan daftar batu (x, y, lebar, tinggi).
+ */
+public class LevelCodec {
+
+    // ==================== KONSTANTA ====================
+    public static final int FORMAT_VERSION = 1;
+    private static final int MAX_ROCKS = 1_000_000;         // Batas aman saat membaca
+
+    /**
+     * Serialisasi bagian layout yang tidak disimpan di kolom
+     */
+    public static byte[] encode(LevelLayout layout) {
+        List<RockModel> rocks = layout.getRocks();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(13 + rocks.size() * 16);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(layout.getPlayerX());
+            out.writeInt(layout.getPlayerY());
+            out.writeInt(rocks.size());
+            for (RockModel rock : rocks) {
+                out.writeInt(rock.getX());
+                out.writeInt(rock.getY());
+                out.writeInt(rock.getWidth());
+                out.writeInt(rock.getHeight());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("ByteArrayOutputStream cannot fail", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Bangun ulang layout dari kolom dan blob
+     * @throws IOException jika blob rusak atau versinya tidak dikenal
+     */
+    public static LevelLayout decode(long seed, int generatorVersion, int width, int height,
+                                     byte[] blob) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(blob))) {
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported level layout version: " + version);
+            }
+            int playerX = in.readInt();
+            int playerY = in.readInt();
+            int count = in.readInt();
+            if (count < 0 || count > MAX_ROCKS) {
+                throw new IOException("Bad rock count: " + count);
+            }
+            List<RockModel> rocks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                rocks.add(new RockModel(in.readInt(), in.readInt(), in.readInt(), in.readInt()));
+            }
+            return new LevelLayout(seed, generatorVersion, width, height, playerX, playerY, rocks);
+        }
+    }
+}
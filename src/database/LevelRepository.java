@@ -0,0 +1,55 @@
+package database;
+
+import java.util.Collections;
+import java.util.List;
+
+import model.LevelLayout;
+
+/**
+ * LevelRepository - Penyimpanan layout level yang sudah dibuat tapi belum dimainkan
+ * Dipakai LevelPipeline agar ronde pertama setelah aplikasi dibuka pun
+ * bisa langsung mulai dari layout yang dibuat pada sesi sebelumnya
+ */
+public interface LevelRepository {
+
+    /** Tanpa penyimpanan: layout hanya hidup di cache memori */
+    LevelRepository NONE = new LevelRepository() {
+        @Override
+        public List<LevelLayout> findPending(int width, int height, int generatorVersion, int limit) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void save(LevelLayout layout) { }
+
+        @Override
+        public void markPlayed(LevelLayout layout) { }
+    };
+
+    /**
+     * Ambil layout siap pakai untuk ukuran arena dan versi generator tertentu
+     * (yang paling lama dibuat lebih dulu)
+     */
+    List<LevelLayout> findPending(int width, int height, int generatorVersion, int limit);
+
+    /**
+     * Simpan layout yang baru dibuat
+     */
+    void save(LevelLayout layout);
+
+    /**
+     * Hapus layout yang sudah dipakai untuk sebuah ronde
+     */
+    void markPlayed(LevelLayout layout);
+
+    /**
+     * Pilih backend sesuai backend history (dari system property "history.store")
+     * Hanya SQLite yang menyimpan layout; backend lain tidak menyimpan apa pun
+     */
+    static LevelRepository create(String kind) {
+        if (kind == null || kind.equalsIgnoreCase("sqlite")) {
+            return new SqliteLevelRepository();
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,385 @@
+package database;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import model.HistoryModel;
+import model.LeaderboardWindow;
+
+/**
+ * LogFileHistoryRepository - Backend file append-only tanpa SQLite
+ * Record ditulis berurutan ke file log (format HistoryCodec). Index terurut
+ * (skor DESC -> offset) disimpan terpisah dan dipadatkan secara berkala:
+ * record baru masuk ke daftar "pending" kecil, lalu digabung ke index
+ * setiap COMPACT_THRESHOLD record.
+ */
+public class LogFileHistoryRepository implements HistoryRepository {
+
+    // ==================== KONSTANTA ====================
+    private static final int INDEX_MAGIC = 0x544D4449;      // "TMDI"
+    private static final int COMPACT_THRESHOLD = 1024;      // Record pending sebelum index dipadatkan
+    private static final int HEADER_LENGTH = 5;             // MAGIC (4) + versi (1)
+
+    // ==================== ATRIBUT ====================
+    private final Path logFile;
+    private final Path indexFile;
+    private long logLength;
+
+    // Index terurut yang sudah dipadatkan (skor menurun, offset menaik)
+    private int[] indexScores = new int[0];
+    private long[] indexOffsets = new long[0];
+
+    // Record yang belum masuk index (tidak terurut)
+    private int[] pendingScores = new int[16];
+    private long[] pendingOffsets = new long[16];
+    private int pendingCount = 0;
+
+    // Username unik, dibangun dari satu scan log saat pertama kali dicari
+    private TreeSet<String> usernames;
+
+    /**
+     * Constructor - Buka (atau buat) file log dan muat index
+     */
+    public LogFileHistoryRepository(Path logFile) {
+        this.logFile = logFile;
+        this.indexFile = Path.of(logFile.toString() + ".idx");
+
+        try {
+            open();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot open history log: " + logFile, e);
+        }
+    }
+
+    // ==================== HistoryRepository ====================
+
+    @Override
+    public synchronized void save(HistoryModel history) {
+        HistoryModel stamped = InMemoryHistoryRepository.stamp(history);
+
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+            HistoryCodec.writeRecord(new DataOutputStream(buffer), stamped);
+            byte[] bytes = buffer.toByteArray();
+
+            long offset = logLength;
+            try (RandomAccessFile raf = new RandomAccessFile(logFile.toFile(), "rw")) {
+                raf.seek(offset);
+                raf.write(bytes);
+            }
+            logLength = offset + bytes.length;
+            addPending(stamped.getScore(), offset);
+            if (usernames != null) usernames.add(stamped.getUsername());
+
+            if (pendingCount >= COMPACT_THRESHOLD) {
+                compact();
+            }
+        } catch (IOException e) {
+            System.err.println("Error saving history: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized List<HistoryModel> findTop(int limit) {
+        List<HistoryModel> list = new ArrayList<>(Math.min(limit, 64));
+        scanByScore(h -> {
+            list.add(h);
+            return list.size() < limit;
+        });
+        return list;
+    }
+
+    @Override
+    public synchronized List<HistoryModel> findTop(LeaderboardWindow window, int limit) {
+        if (window == LeaderboardWindow.ALL_TIME) {
+            return findTop(limit);
+        }
+
+        long now = System.currentTimeMillis() / 1000;
+        List<HistoryModel> list = new ArrayList<>(Math.min(limit, 64));
+        Set<String> seen = new HashSet<>();
+        scanByScore(h -> {
+            if (window.contains(h.getCreatedAt(), now) && seen.add(h.getUsername())) {
+                list.add(h);
+            }
+            return list.size() < limit;
+        });
+        return list;
+    }
+
+    /**
+     * Baca record berurutan dari skor tertinggi (merge index padat dan pending)
+     * @param visitor dipanggil per record, kembalikan false untuk berhenti
+     */
+    private void scanByScore(Predicate<HistoryModel> visitor) {
+        long[] pending = sortedPending();
+
+        try (RandomAccessFile raf = new RandomAccessFile(logFile.toFile(), "r")) {
+            int i = 0;
+            int p = 0;
+            while (i < indexScores.length || p < pending.length) {
+                long offset;
+                if (p >= pending.length) {
+                    offset = indexOffsets[i++];
+                } else if (i >= indexScores.length) {
+                    offset = pendingOffset(pending[p++]);
+                } else if (indexScores[i] >= pendingScore(pending[p])) {
+                    offset = indexOffsets[i++];
+                } else {
+                    offset = pendingOffset(pending[p++]);
+                }
+
+                raf.seek(offset);
+                HistoryModel h = HistoryCodec.readRecord(raf);
+                if (h != null && !visitor.test(h)) return;
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public synchronized List<String> findUsernamesByPrefix(String prefix, int limit) {
+        if (usernames == null) {
+            usernames = loadUsernames();
+        }
+        return InMemoryHistoryRepository.prefixRange(usernames, prefix, limit);
+    }
+
+    /**
+     * Scan seluruh log secara streaming untuk mengumpulkan username unik
+     */
+    private TreeSet<String> loadUsernames() {
+        TreeSet<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(logFile)))) {
+            HistoryCodec.readHeader(in);
+            HistoryModel h;
+            while ((h = HistoryCodec.readRecord(in)) != null) {
+                names.add(h.getUsername());
+            }
+        } catch (IOException e) {
+            System.err.println("Error scanning history log: " + e.getMessage());
+        }
+        return names;
+    }
+
+    // ==================== INDEX ====================
+
+    /**
+     * Gabungkan pending ke index terurut dan simpan index ke disk
+     */
+    public synchronized void compact() throws IOException {
+        long[] pending = sortedPending();
+        int total = indexScores.length + pending.length;
+        int[] scores = new int[total];
+        long[] offsets = new long[total];
+
+        int i = 0, p = 0, k = 0;
+        while (i < indexScores.length || p < pending.length) {
+            boolean takeIndex = p >= pending.length
+                || (i < indexScores.length && indexScores[i] >= pendingScore(pending[p]));
+            if (takeIndex) {
+                scores[k] = indexScores[i];
+                offsets[k++] = indexOffsets[i++];
+            } else {
+                scores[k] = pendingScore(pending[p]);
+                offsets[k++] = pendingOffset(pending[p++]);
+            }
+        }
+
+        indexScores = scores;
+        indexOffsets = offsets;
+        pendingCount = 0;
+        writeIndex();
+    }
+
+    /**
+     * Tulis index ke file sementara lalu ganti secara atomik
+     */
+    private void writeIndex() throws IOException {
+        Path tmp = Path.of(indexFile.toString() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeLong(logLength);
+            out.writeInt(indexScores.length);
+            for (int i = 0; i < indexScores.length; i++) {
+                out.writeInt(indexScores[i]);
+                out.writeLong(indexOffsets[i]);
+            }
+        }
+        Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Muat index dari disk
+     * @return panjang log yang sudah tercakup index, atau posisi awal record jika index tidak valid
+     */
+    private long readIndex() {
+        if (!Files.exists(indexFile)) return HEADER_LENGTH;
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != INDEX_MAGIC) return HEADER_LENGTH;
+            long covered = in.readLong();
+            if (covered > logLength) return HEADER_LENGTH;   // Log terpotong, bangun ulang
+
+            int count = in.readInt();
+            int[] scores = new int[count];
+            long[] offsets = new long[count];
+            for (int i = 0; i < count; i++) {
+                scores[i] = in.readInt();
+                offsets[i] = in.readLong();
+            }
+            indexScores = scores;
+            indexOffsets = offsets;
+            return covered;
+        } catch (IOException e) {
+            System.err.println("⚠ History index rusak, membangun ulang: " + e.getMessage());
+            indexScores = new int[0];
+            indexOffsets = new long[0];
+            return HEADER_LENGTH;
+        }
+    }
+
+    // ==================== OPEN / RECOVERY ====================
+
+    /**
+     * Buat log baru atau muat index lalu scan ekor log yang belum terindeks
+     */
+    private void open() throws IOException {
+        if (!Files.exists(logFile) || Files.size(logFile) < HEADER_LENGTH) {
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(logFile))) {
+                HistoryCodec.writeHeader(out);
+            }
+        }
+        logLength = Files.size(logFile);
+
+        long covered = readIndex();
+        long validEnd = scanTail(covered);
+
+        // Potong record terakhir yang tidak lengkap (misal crash saat menulis)
+        if (validEnd < logLength) {
+            try (RandomAccessFile raf = new RandomAccessFile(logFile.toFile(), "rw")) {
+                raf.setLength(validEnd);
+            }
+            logLength = validEnd;
+        }
+
+        if (pendingCount >= COMPACT_THRESHOLD) {
+            compact();
+        }
+    }
+
+    /**
+     * Baca record mulai dari offset tertentu dan masukkan ke pending
+     * @return offset akhir record terakhir yang valid
+     */
+    private long scanTail(long from) throws IOException {
+        try (CountingInputStream counter = new CountingInputStream(
+                new BufferedInputStream(Files.newInputStream(logFile)))) {
+            DataInputStream in = new DataInputStream(counter);
+            if (from == HEADER_LENGTH) {
+                HistoryCodec.readHeader(in);
+            } else {
+                in.skipNBytes(from);
+            }
+
+            long offset = counter.count;
+            try {
+                HistoryModel h;
+                while ((h = HistoryCodec.readRecord(in)) != null) {
+                    addPending(h.getScore(), offset);
+                    offset = counter.count;
+                }
+            } catch (EOFException e) {
+                // Record terakhir terpotong, berhenti di record valid terakhir
+            }
+            return offset;
+        }
+    }
+
+    // ==================== HELPER ====================
+
+    private void addPending(int score, long offset) {
+        if (pendingCount == pendingScores.length) {
+            pendingScores = Arrays.copyOf(pendingScores, pendingCount * 2);
+            pendingOffsets = Arrays.copyOf(pendingOffsets, pendingCount * 2);
+        }
+        pendingScores[pendingCount] = score;
+        pendingOffsets[pendingCount++] = offset;
+    }
+
+    /**
+     * Urutkan pending (skor DESC, offset ASC) sebagai satu array long
+     * Dikemas dalam satu long: 32 bit atas = ~skor (menaik = skor menurun),
+     * 32 bit bawah = index pending (menaik = offset menaik)
+     */
+    private long[] sortedPending() {
+        long[] keys = new long[pendingCount];
+        for (int i = 0; i < pendingCount; i++) {
+            keys[i] = ((long) ~pendingScores[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    private int pendingScore(long key) {
+        return pendingScores[(int) key];
+    }
+
+    private long pendingOffset(long key) {
+        return pendingOffsets[(int) key];
+    }
+
+    /**
+     * InputStream yang menghitung byte yang sudah dibaca (untuk offset record)
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        long count = 0;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
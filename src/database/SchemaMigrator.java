@@ -0,0 +1,319 @@
+package database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SchemaMigrator - Menjalankan migrasi skema database secara berurutan
+ * Versi skema disimpan di PRAGMA user_version sehingga setiap langkah
+ * hanya dijalankan sekali per file game.db.
+ * Langkah dengan backfill baru menaikkan versi setelah backfill selesai;
+ * jika proses berhenti di tengah, langkah (DDL idempoten + backfill) diulang
+ * saat start berikutnya.
+ */
+public class SchemaMigrator {
+
+    // ==================== KONSTANTA ====================
+    private static final int BACKFILL_BATCH_SIZE = 5000;    // Jumlah baris per transaksi backfill
+
+    /**
+     * Satu langkah migrasi - dijalankan di dalam transaksinya sendiri
+     */
+    @FunctionalInterface
+    interface Step {
+        void apply(Connection conn) throws SQLException;
+    }
+
+    /**
+     * Perubahan skema (satu transaksi, harus idempoten) dan backfill opsional
+     * (mengatur transaksinya sendiri, harus aman diulang)
+     */
+    private static final class Migration {
+        final Step schema;
+        final Step backfill;
+
+        Migration(Step schema, Step backfill) {
+            this.schema = schema;
+            this.backfill = backfill;
+        }
+    }
+
+    // Daftar langkah migrasi, urutan = nomor versi (index 0 -> versi 1)
+    private static final Migration[] MIGRATIONS = {
+        new Migration(SchemaMigrator::createHistoryTable, null),     // v1: tabel history + index score
+        new Migration(SchemaMigrator::addSessionColumns, null),      // v2: kolom bullets_fired dan duration_ms
+        new Migration(SchemaMigrator::addDedupIndex, null),          // v3: index untuk deduplikasi import
+        new Migration(SchemaMigrator::addUsernameIndex, null),       // v4: index NOCASE untuk pencarian prefix username
+        new Migration(SchemaMigrator::createLeaderboardRollup,       // v5: rollup leaderboard harian/mingguan + trigger
+                      SchemaMigrator::backfillLeaderboardRollup),
+        new Migration(SchemaMigrator::createLevelLayoutTable, null), // v6: layout level yang sudah dibuat tapi belum dimainkan
+    };
+
+    /** Versi skema terbaru yang dikenal aplikasi */
+    public static final int LATEST_VERSION = MIGRATIONS.length;
+
+    /**
+     * Bawa skema ke versi terbaru
+     * Langsung kembali tanpa pengecekan lain jika skema sudah terbaru
+     */
+    public static void migrate(Connection conn) throws SQLException {
+        int current = readVersion(conn);
+        if (current >= LATEST_VERSION) {
+            return;
+        }
+
+        System.out.println("Migrating schema v" + current + " -> v" + LATEST_VERSION);
+        for (int version = current + 1; version <= LATEST_VERSION; version++) {
+            applyStep(conn, version);
+            System.out.println("✓ Schema v" + version + " ready");
+        }
+    }
+
+    /**
+     * Jalankan satu langkah migrasi lalu catat versinya
+     * Tanpa backfill: skema dan versi dalam satu transaksi.
+     * Dengan backfill: versi baru dicatat setelah backfill selesai, di luar
+     * transaksi skema agar backfill tidak mengunci DB lama terlalu lama
+     */
+    private static void applyStep(Connection conn, int version) throws SQLException {
+        Migration migration = MIGRATIONS[version - 1];
+        if (migration.backfill == null) {
+            inTransaction(conn, c -> {
+                migration.schema.apply(c);
+                writeVersion(c, version);
+            });
+            return;
+        }
+
+        inTransaction(conn, migration.schema);
+        migration.backfill.apply(conn);
+        inTransaction(conn, c -> writeVersion(c, version));
+    }
+
+    /**
+     * Jalankan step di dalam satu transaksi (rollback jika gagal)
+     */
+    private static void inTransaction(Connection conn, Step step) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            step.apply(conn);
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static void writeVersion(Connection conn, int version) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            // PRAGMA tidak mendukung parameter, nilai berasal dari konstanta internal
+            stmt.execute("PRAGMA user_version = " + version);
+        }
+    }
+
+    /**
+     * Baca versi skema dari PRAGMA user_version
+     */
+    public static int readVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    // ==================== LANGKAH MIGRASI ====================
+
+    /**
+     * v1 - Skema awal (aman untuk DB lama yang belum punya user_version)
+     */
+    private static void createHistoryTable(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS history (
+                    id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    username TEXT NOT NULL,
+                    score INTEGER NOT NULL DEFAULT 0,
+                    ammo INTEGER NOT NULL DEFAULT 0,
+                    bullets_missed INTEGER NOT NULL DEFAULT 0,
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_score ON history(score DESC)");
+        }
+    }
+
+    /**
+     * v2 - Tambah statistik sesi
+     * ADD COLUMN dengan DEFAULT konstan hanya mengubah skema, tidak menulis ulang tabel.
+     * Baris lama tetap 0 (= tidak diketahui); jumlah tembakan tidak bisa direkonstruksi
+     */
+    private static void addSessionColumns(Connection conn) throws SQLException {
+        addColumnIfMissing(conn, "history", "bullets_fired", "INTEGER NOT NULL DEFAULT 0");
+        addColumnIfMissing(conn, "history", "duration_ms", "INTEGER NOT NULL DEFAULT 0");
+    }
+
+    /**
+     * v3 - Index (username, created_at) agar cek duplikat saat import tidak scan penuh
+     */
+    private static void addDedupIndex(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_history_dedup ON history(username, created_at)");
+        }
+    }
+
+    /**
+     * v4 - Index username COLLATE NOCASE untuk range scan prefix saat mengetik
+     */
+    private static void addUsernameIndex(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_username_nocase ON history(username COLLATE NOCASE)");
+        }
+    }
+
+    /**
+     * v5 - Tabel rollup skor terbaik per pemain per hari ('D') dan per minggu ('W')
+     * Dipelihara oleh trigger saat insert sehingga leaderboard berjendela
+     * tidak perlu ORDER BY score pada seluruh history.
+     * Bucket mingguan = tanggal Senin (Database.weekBucket)
+     */
+    private static void createLeaderboardRollup(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS leaderboard_rollup (
+                    period TEXT NOT NULL,
+                    bucket TEXT NOT NULL,
+                    username TEXT NOT NULL,
+                    score INTEGER NOT NULL,
+                    ammo INTEGER NOT NULL,
+                    bullets_missed INTEGER NOT NULL,
+                    PRIMARY KEY (period, bucket, username)
+                ) WITHOUT ROWID
+                """);
+            stmt.execute("""
+                CREATE INDEX IF NOT EXISTS idx_rollup_score
+                ON leaderboard_rollup(period, bucket, score DESC)
+                """);
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS trg_history_rollup AFTER INSERT ON history
+                BEGIN
+                    INSERT INTO leaderboard_rollup
+                    VALUES ('D', date(NEW.created_at), NEW.username, NEW.score, NEW.ammo, NEW.bullets_missed)
+                    ON CONFLICT(period, bucket, username) DO UPDATE SET
+                        score = excluded.score, ammo = excluded.ammo, bullets_missed = excluded.bullets_missed
+                    WHERE excluded.score > leaderboard_rollup.score;
+
+                    INSERT INTO leaderboard_rollup
+                    VALUES ('W', %s, NEW.username, NEW.score, NEW.ammo, NEW.bullets_missed)
+                    ON CONFLICT(period, bucket, username) DO UPDATE SET
+                        score = excluded.score, ammo = excluded.ammo, bullets_missed = excluded.bullets_missed
+                    WHERE excluded.score > leaderboard_rollup.score;
+                END
+                """.formatted(Database.weekBucket("NEW.created_at")));
+        }
+    }
+
+    /**
+     * v6 - Layout level yang dibuat lebih dulu oleh LevelPipeline
+     * Baris dihapus saat layout dimainkan, jadi tabel hanya berisi beberapa
+     * layout siap pakai per ukuran arena untuk awal sesi berikutnya
+     */
+    private static void createLevelLayoutTable(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS level_layout (
+                    width INTEGER NOT NULL,
+                    height INTEGER NOT NULL,
+                    generator INTEGER NOT NULL,
+                    seed INTEGER NOT NULL,
+                    layout BLOB NOT NULL,
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    PRIMARY KEY (width, height, generator, seed)
+                ) WITHOUT ROWID
+                """);
+        }
+    }
+
+    // ==================== BACKFILL ====================
+
+    /**
+     * Isi rollup dari history yang masih berada dalam jendela retensi
+     * Setiap rentang id adalah transaksi pendek sendiri, sehingga penulis lain
+     * tidak menunggu lama pada file yang besar
+     */
+    private static void backfillLeaderboardRollup(Connection conn) throws SQLException {
+        long maxId = maxHistoryId(conn);
+
+        // SELECT harus punya WHERE agar parser SQLite tidak membaca ON CONFLICT sebagai JOIN
+        String sql = """
+            INSERT INTO leaderboard_rollup
+            SELECT ?, %s, username, score, ammo, bullets_missed FROM history
+            WHERE id > ? AND id <= ? AND created_at >= %s
+            ON CONFLICT(period, bucket, username) DO UPDATE SET
+                score = excluded.score, ammo = excluded.ammo, bullets_missed = excluded.bullets_missed
+            WHERE excluded.score > leaderboard_rollup.score
+            """;
+        String[][] periods = {
+            {"D", "date(created_at)", Database.DAILY_ROLLUP_CUTOFF},
+            {"W", Database.weekBucket("created_at"), Database.WEEKLY_ROLLUP_CUTOFF}
+        };
+
+        long updated = 0;
+        for (String[] period : periods) {
+            try (PreparedStatement ps = conn.prepareStatement(sql.formatted(period[1], period[2]))) {
+                for (long from = 0; from < maxId; from += BACKFILL_BATCH_SIZE) {
+                    ps.setString(1, period[0]);
+                    ps.setLong(2, from);
+                    ps.setLong(3, from + BACKFILL_BATCH_SIZE);
+                    long[] batch = new long[1];
+                    inTransaction(conn, c -> batch[0] = ps.executeUpdate());
+                    updated += batch[0];
+                }
+            }
+        }
+
+        if (updated > 0) {
+            System.out.println("✓ Backfilled leaderboard rollup with " + updated + " rows");
+        }
+    }
+
+    // ==================== HELPER ====================
+
+    private static long maxHistoryId(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT IFNULL(MAX(id), 0) FROM history")) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Tambah kolom hanya jika belum ada (SQLite tidak punya ADD COLUMN IF NOT EXISTS)
+     */
+    private static void addColumnIfMissing(Connection conn, String table, String column,
+                                           String definition) throws SQLException {
+        if (hasColumn(conn, table, column)) return;
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+        }
+    }
+
+    /**
+     * Cek apakah kolom sudah ada di tabel
+     */
+    private static boolean hasColumn(Connection conn, String table, String column) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,148 @@
+package database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import model.HistoryModel;
+import model.LeaderboardWindow;
+import util.GameEvents;
+
+/**
+ * SqliteHistoryRepository - Implementasi HistoryRepository di atas game.db
+ */
+public class SqliteHistoryRepository implements HistoryRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO history(username, score, ammo, bullets_missed, bullets_fired, duration_ms) "
+      + "VALUES(?, ?, ?, ?, ?, ?)";
+
+    private static final String TOP_SQL =
+        "SELECT username, score, ammo, bullets_missed FROM history ORDER BY score DESC LIMIT ?";
+
+    // Dilayani dari rollup (idx_rollup_score), bukan dari tabel history mentah
+    private static final String WINDOW_TOP_SQL =
+        "SELECT username, score, ammo, bullets_missed FROM leaderboard_rollup "
+      + "WHERE period = ? AND bucket = %s ORDER BY score DESC LIMIT ?";
+
+    // Range scan pada idx_username_nocase; GROUP BY NOCASE membuang duplikat beda huruf besar/kecil
+    private static final String PREFIX_SQL =
+        "SELECT MIN(username) FROM history "
+      + "WHERE username >= ? COLLATE NOCASE AND username < ? COLLATE NOCASE "
+      + "GROUP BY username COLLATE NOCASE "
+      + "ORDER BY MIN(username) COLLATE NOCASE LIMIT ?";
+
+    @Override
+    public void save(HistoryModel history) {
+        GameEvents.DatabaseQuery event = Database.beginQuery("history.insert");
+        int rows = -1;
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(INSERT_SQL)) {
+            
+            ps.setString(1, history.getUsername());
+            ps.setInt(2, history.getScore());
+            ps.setInt(3, history.getAmmo());
+            ps.setInt(4, history.getBulletsMissed());
+            ps.setInt(5, history.getBulletsFired());
+            ps.setLong(6, history.getDurationMs());
+            
+            rows = ps.executeUpdate();
+            System.out.println("History saved: " + history.getUsername());
+            
+        } catch (Exception e) {
+            System.err.println("Error saving history: " + e.getMessage());
+        }
+        Database.endQuery(event, rows);
+    }
+
+    @Override
+    public List<HistoryModel> findTop(int limit) {
+        List<HistoryModel> list = new ArrayList<>();
+        GameEvents.DatabaseQuery event = Database.beginQuery("history.top");
+        boolean ok = false;
+        
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(TOP_SQL)) {
+            
+            ps.setInt(1, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    list.add(new HistoryModel(
+                        rs.getString(1), 
+                        rs.getInt(2), 
+                        rs.getInt(3), 
+                        rs.getInt(4)
+                    ));
+                }
+            }
+            ok = true;
+        } catch (Exception e) { 
+            e.printStackTrace(); 
+        }
+        Database.endQuery(event, ok ? list.size() : -1);
+        return list;
+    }
+
+    @Override
+    public List<HistoryModel> findTop(LeaderboardWindow window, int limit) {
+        if (window == LeaderboardWindow.ALL_TIME) {
+            return findTop(limit);
+        }
+        
+        String sql = (window == LeaderboardWindow.DAILY)
+            ? WINDOW_TOP_SQL.formatted("date('now')")
+            : WINDOW_TOP_SQL.formatted(Database.weekBucket("'now'"));
+        
+        List<HistoryModel> list = new ArrayList<>();
+        GameEvents.DatabaseQuery event = Database.beginQuery("rollup.top");
+        boolean ok = false;
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            
+            ps.setString(1, window == LeaderboardWindow.DAILY ? "D" : "W");
+            ps.setInt(2, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    list.add(new HistoryModel(
+                        rs.getString(1), 
+                        rs.getInt(2), 
+                        rs.getInt(3), 
+                        rs.getInt(4)
+                    ));
+                }
+            }
+            ok = true;
+        } catch (Exception e) { 
+            e.printStackTrace(); 
+        }
+        Database.endQuery(event, ok ? list.size() : -1);
+        return list;
+    }
+
+    @Override
+    public List<String> findUsernamesByPrefix(String prefix, int limit) {
+        List<String> list = new ArrayList<>();
+        GameEvents.DatabaseQuery event = Database.beginQuery("history.prefix");
+        boolean ok = false;
+        
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(PREFIX_SQL)) {
+            
+            ps.setString(1, prefix);
+            ps.setString(2, prefix + Character.MAX_VALUE);
+            ps.setInt(3, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    list.add(rs.getString(1));
+                }
+            }
+            ok = true;
+        } catch (Exception e) {
+            System.err.println("Error searching usernames: " + e.getMessage());
+        }
+        Database.endQuery(event, ok ? list.size() : -1);
+        return list;
+    }
+}
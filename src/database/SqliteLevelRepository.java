@@ -0,0 +1,94 @@
+package database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import model.LevelLayout;
+import util.GameEvents;
+
+/**
+ * SqliteLevelRepository - Implementasi LevelRepository di atas tabel level_layout
+ */
+public class SqliteLevelRepository implements LevelRepository {
+
+    private static final String PENDING_SQL =
+        "SELECT seed, layout FROM level_layout "
+      + "WHERE width = ? AND height = ? AND generator = ? ORDER BY created_at LIMIT ?";
+
+    private static final String INSERT_SQL =
+        "INSERT OR REPLACE INTO level_layout(width, height, generator, seed, layout) VALUES(?, ?, ?, ?, ?)";
+
+    private static final String DELETE_SQL =
+        "DELETE FROM level_layout WHERE width = ? AND height = ? AND generator = ? AND seed = ?";
+
+    @Override
+    public List<LevelLayout> findPending(int width, int height, int generatorVersion, int limit) {
+        List<LevelLayout> list = new ArrayList<>();
+        GameEvents.DatabaseQuery event = Database.beginQuery("level.pending");
+        boolean ok = false;
+
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(PENDING_SQL)) {
+
+            ps.setInt(1, width);
+            ps.setInt(2, height);
+            ps.setInt(3, generatorVersion);
+            ps.setInt(4, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    list.add(LevelCodec.decode(rs.getLong(1), generatorVersion, width, height,
+                                               rs.getBytes(2)));
+                }
+            }
+            ok = true;
+        } catch (Exception e) {
+            System.err.println("Error loading level layouts: " + e.getMessage());
+        }
+        Database.endQuery(event, ok ? list.size() : -1);
+        return list;
+    }
+
+    @Override
+    public void save(LevelLayout layout) {
+        GameEvents.DatabaseQuery event = Database.beginQuery("level.insert");
+        int rows = -1;
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(INSERT_SQL)) {
+
+            bindKey(ps, layout);
+            ps.setBytes(5, LevelCodec.encode(layout));
+            rows = ps.executeUpdate();
+
+        } catch (Exception e) {
+            System.err.println("Error saving level layout: " + e.getMessage());
+        }
+        Database.endQuery(event, rows);
+    }
+
+    @Override
+    public void markPlayed(LevelLayout layout) {
+        GameEvents.DatabaseQuery event = Database.beginQuery("level.delete");
+        int rows = -1;
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(DELETE_SQL)) {
+
+            bindKey(ps, layout);
+            rows = ps.executeUpdate();
+
+        } catch (Exception e) {
+            System.err.println("Error removing level layout: " + e.getMessage());
+        }
+        Database.endQuery(event, rows);
+    }
+
+    private static void bindKey(PreparedStatement ps, LevelLayout layout) throws SQLException {
+        ps.setInt(1, layout.getWorldWidth());
+        ps.setInt(2, layout.getWorldHeight());
+        ps.setInt(3, layout.getGeneratorVersion());
+        ps.setLong(4, layout.getSeed());
+    }
+}
@@ -0,0 +1,158 @@
+package ecs;
+
+import java.util.Arrays;
+
+/**
+ * Archetype - Tabel SoA untuk entitas dengan kombinasi komponen yang sama
+ * Setiap komponen disimpan sebagai array primitif terpisah (x[], y[], vx[], ...)
+ * yang diindeks baris, sehingga sistem membaca memori secara berurutan.
+ * Array hanya dibuat untuk komponen yang dimiliki archetype.
+ *
+ * Getter array mengembalikan array internal untuk dibaca/ditulis langsung oleh
+ * sistem; array bisa diganti saat kapasitas bertambah, jadi ambil ulang setelah spawn().
+ * Pembaca dari thread lain (render) sebaiknya membatasi index dengan panjang array.
+ */
+public class Archetype {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // ==================== IDENTITAS ====================
+    private final World world;
+    private final int id;
+    private final String name;
+    private final int components;
+    private final byte faction;
+
+    // ==================== BARIS ====================
+    private int count = 0;
+    private int pendingRemovals = 0;
+    private int[] entities = new int[INITIAL_CAPACITY];
+    private boolean[] alive = new boolean[INITIAL_CAPACITY];
+
+    // ==================== KOMPONEN (null jika tidak dimiliki) ====================
+    private double[] x;
+    private double[] y;
+    private double[] vx;
+    private double[] vy;
+    private int[] colliderSize;
+    private int[] health;
+
+    Archetype(World world, int id, String name, int components, byte faction) {
+        this.world = world;
+        this.id = id;
+        this.name = name;
+        this.components = components;
+        this.faction = faction;
+
+        if (has(World.POSITION)) {
+            x = new double[INITIAL_CAPACITY];
+            y = new double[INITIAL_CAPACITY];
+        }
+        if (has(World.VELOCITY)) {
+            vx = new double[INITIAL_CAPACITY];
+            vy = new double[INITIAL_CAPACITY];
+        }
+        if (has(World.COLLIDER)) {
+            colliderSize = new int[INITIAL_CAPACITY];
+        }
+        if (has(World.HEALTH)) {
+            health = new int[INITIAL_CAPACITY];
+        }
+    }
+
+    // ==================== INFO ====================
+
+    public String getName() { return name; }
+    public byte getFaction() { return faction; }
+    public boolean has(int component) { return (components & component) == component; }
+
+    /** Jumlah baris, termasuk baris yang sudah di-destroy tapi belum di-flush */
+    public int getCount() { return count; }
+
+    // ==================== ARRAY KOMPONEN ====================
+
+    public int[] getEntities() { return entities; }
+    public double[] getXs() { return x; }
+    public double[] getYs() { return y; }
+    public double[] getVelocityXs() { return vx; }
+    public double[] getVelocityYs() { return vy; }
+    public int[] getColliderSizes() { return colliderSize; }
+    public int[] getHealths() { return health; }
+
+    // ==================== SIKLUS HIDUP ====================
+
+    /**
+     * Tambah entitas baru di akhir tabel; semua komponen bernilai 0
+     * @return index baris entitas baru
+     */
+    public int spawn() {
+        if (count == entities.length) {
+            grow();
+        }
+        int row = count++;
+        entities[row] = world.allocate(id, row);
+        alive[row] = true;
+        if (x != null) { x[row] = 0; y[row] = 0; }
+        if (vx != null) { vx[row] = 0; vy[row] = 0; }
+        if (colliderSize != null) colliderSize[row] = 0;
+        if (health != null) health[row] = 0;
+        return row;
+    }
+
+    /** Baris masih hidup (belum di-destroy) */
+    public boolean isAliveAt(int row) {
+        return alive[row];
+    }
+
+    /**
+     * Tandai baris untuk dihapus pada World.flush()
+     * Aman dipanggil berkali-kali untuk baris yang sama
+     */
+    public void destroyAt(int row) {
+        if (alive[row]) {
+            alive[row] = false;
+            pendingRemovals++;
+        }
+    }
+
+    /**
+     * Buang baris mati dengan menggeser baris hidup ke depan (urutan tetap)
+     */
+    void compact() {
+        if (pendingRemovals == 0) return;
+
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            if (!alive[read]) {
+                world.release(entities[read]);
+                continue;
+            }
+            if (write != read) {
+                copyRow(read, write);
+                world.moved(entities[write], write);
+            }
+            write++;
+        }
+        count = write;
+        pendingRemovals = 0;
+    }
+
+    private void copyRow(int from, int to) {
+        entities[to] = entities[from];
+        alive[to] = true;
+        if (x != null) { x[to] = x[from]; y[to] = y[from]; }
+        if (vx != null) { vx[to] = vx[from]; vy[to] = vy[from]; }
+        if (colliderSize != null) colliderSize[to] = colliderSize[from];
+        if (health != null) health[to] = health[from];
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        if (x != null) { x = Arrays.copyOf(x, capacity); y = Arrays.copyOf(y, capacity); }
+        if (vx != null) { vx = Arrays.copyOf(vx, capacity); vy = Arrays.copyOf(vy, capacity); }
+        if (colliderSize != null) colliderSize = Arrays.copyOf(colliderSize, capacity);
+        if (health != null) health = Arrays.copyOf(health, capacity);
+    }
+}
@@ -0,0 +1,25 @@
+package ecs;
+
+/**
+ * MovementSystem - Integrasi posisi untuk archetype dengan POSITION dan VELOCITY
+ * Satu loop lurus di atas array padat; rentang baris [from, to) memungkinkan
+ * pemanggil membagi kerja ke beberapa thread.
+ */
+public final class MovementSystem {
+
+    private MovementSystem() { }
+
+    /**
+     * x += vx, y += vy untuk baris [from, to)
+     */
+    public static void integrate(Archetype archetype, int from, int to) {
+        double[] x = archetype.getXs();
+        double[] y = archetype.getYs();
+        double[] vx = archetype.getVelocityXs();
+        double[] vy = archetype.getVelocityYs();
+        for (int i = from; i < to; i++) {
+            x[i] += vx[i];
+            y[i] += vy[i];
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * World - Inti entity-component-system
+ * Entitas hanyalah handle int (index + generasi); datanya disimpan di Archetype,
+ * tabel SoA yang berisi semua entitas dengan kombinasi komponen yang sama.
+ * Sistem cukup melakukan loop di atas array padat milik satu archetype.
+ *
+ * Penghapusan bersifat tertunda: destroy() hanya menandai baris, lalu flush()
+ * memadatkan setiap archetype dengan urutan tetap (stabil) dan mengembalikan
+ * index ke free list. Index dipakai ulang secara FIFO dan generasinya naik,
+ * sehingga handle lama (misal di event terjadwal) tidak pernah tertukar
+ * dengan entitas baru yang menempati index yang sama.
+ */
+public class World {
+
+    // ==================== KOMPONEN ====================
+    public static final int POSITION = 1;           // x, y (double)
+    public static final int VELOCITY = 1 << 1;      // vx, vy (double)
+    public static final int COLLIDER = 1 << 2;      // ukuran kotak (int)
+    public static final int HEALTH = 1 << 3;        // HP (int)
+
+    // ==================== HANDLE ====================
+    public static final int NONE = -1;
+    private static final int INDEX_BITS = 22;                           // ~4 juta entitas hidup
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - INDEX_BITS)) - 1;   // Handle selalu >= 0
+
+    // ==================== ATRIBUT ====================
+    private final List<Archetype> archetypes = new ArrayList<>();
+    private int[] generations = new int[64];
+    private int[] archetypeOf = new int[64];        // -1 jika index bebas
+    private int[] rowOf = new int[64];
+    private int nextIndex = 0;
+
+    // Free list FIFO (ring buffer)
+    private int[] freeIndices = new int[64];
+    private int freeHead = 0;
+    private int freeCount = 0;
+
+    public World() {
+        Arrays.fill(archetypeOf, -1);
+    }
+
+    /**
+     * Daftarkan archetype baru
+     * @param components Gabungan flag komponen (POSITION | VELOCITY | ...)
+     * @param faction Komponen bersama: nilai faksi yang sama untuk semua entitas di archetype
+     */
+    public Archetype createArchetype(String name, int components, byte faction) {
+        Archetype archetype = new Archetype(this, archetypes.size(), name, components, faction);
+        archetypes.add(archetype);
+        return archetype;
+    }
+
+    public List<Archetype> getArchetypes() {
+        return Collections.unmodifiableList(archetypes);
+    }
+
+    // ==================== ENTITAS ====================
+
+    /**
+     * Cek apakah handle masih menunjuk entitas hidup (belum di-destroy)
+     */
+    public boolean isAlive(int entity) {
+        if (entity < 0) return false;
+        int index = entity & INDEX_MASK;
+        if (index >= nextIndex || generations[index] != entity >>> INDEX_BITS) return false;
+        int archetype = archetypeOf[index];
+        return archetype >= 0 && archetypes.get(archetype).isAliveAt(rowOf[index]);
+    }
+
+    /**
+     * Tandai entitas untuk dihapus pada flush() berikutnya
+     */
+    public void destroy(int entity) {
+        if (isAlive(entity)) {
+            int index = entity & INDEX_MASK;
+            archetypes.get(archetypeOf[index]).destroyAt(rowOf[index]);
+        }
+    }
+
+    /**
+     * Archetype tempat entitas berada, null jika handle tidak valid
+     */
+    public Archetype archetypeOf(int entity) {
+        return isAlive(entity) ? archetypes.get(archetypeOf[entity & INDEX_MASK]) : null;
+    }
+
+    /**
+     * Baris entitas di archetype-nya, -1 jika handle tidak valid
+     */
+    public int rowOf(int entity) {
+        return isAlive(entity) ? rowOf[entity & INDEX_MASK] : -1;
+    }
+
+    /**
+     * Padatkan semua archetype dan kembalikan index entitas yang dihapus
+     */
+    public void flush() {
+        for (int i = 0, n = archetypes.size(); i < n; i++) {
+            archetypes.get(i).compact();
+        }
+    }
+
+    /** Jumlah entitas di semua archetype (termasuk yang menunggu flush) */
+    public int getEntityCount() {
+        int total = 0;
+        for (int i = 0, n = archetypes.size(); i < n; i++) {
+            total += archetypes.get(i).getCount();
+        }
+        return total;
+    }
+
+    /** Jumlah index bebas yang siap dipakai ulang */
+    public int getFreeIndexCount() {
+        return freeCount;
+    }
+
+    // ==================== DIPANGGIL ARCHETYPE ====================
+
+    /**
+     * Alokasikan handle untuk baris baru (index bebas tertua dipakai lebih dulu)
+     */
+    int allocate(int archetype, int row) {
+        int index;
+        if (freeCount > 0) {
+            index = freeIndices[freeHead];
+            freeHead = (freeHead + 1) % freeIndices.length;
+            freeCount--;
+        } else {
+            index = nextIndex++;
+            if (index > INDEX_MASK) {
+                throw new IllegalStateException("Too many live entities: " + index);
+            }
+            if (index == generations.length) {
+                int capacity = generations.length * 2;
+                generations = Arrays.copyOf(generations, capacity);
+                rowOf = Arrays.copyOf(rowOf, capacity);
+                archetypeOf = Arrays.copyOf(archetypeOf, capacity);
+                Arrays.fill(archetypeOf, index, capacity, -1);
+            }
+        }
+        archetypeOf[index] = archetype;
+        rowOf[index] = row;
+        return (generations[index] << INDEX_BITS) | index;
+    }
+
+    /** Entitas pindah baris karena pemadatan */
+    void moved(int entity, int row) {
+        rowOf[entity & INDEX_MASK] = row;
+    }
+
+    /** Entitas dihapus: naikkan generasi dan masukkan index ke free list */
+    void release(int entity) {
+        int index = entity & INDEX_MASK;
+        archetypeOf[index] = -1;
+        generations[index] = (generations[index] + 1) & GENERATION_MASK;
+
+        if (freeCount == freeIndices.length) {
+            // Susun ulang ring dari head agar urutan FIFO tetap
+            int[] grown = new int[freeIndices.length * 2];
+            for (int i = 0; i < freeCount; i++) {
+                grown[i] = freeIndices[(freeHead + i) % freeIndices.length];
+            }
+            freeIndices = grown;
+            freeHead = 0;
+        }
+        freeIndices[(freeHead + freeCount) % freeIndices.length] = index;
+        freeCount++;
+    }
+}
@@ -0,0 +1,202 @@
+package main;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.Set;
+
+import presenter.GameSimulation;
+import presenter.InputPolicy;
+import presenter.RandomInputPolicy;
+import presenter.ScriptedInputPolicy;
+import util.TickScheduler;
+
+/**
+ * HeadlessMain - Menjalankan simulasi tanpa Swing dan audio secepat mungkin
+ * Dipakai untuk soak test dan pengukuran throughput di mesin tanpa display.
+ * Setiap kali game over, sesi baru dimulai dengan seed berikutnya.
+ *
+ * Argumen:
+ *   --ticks <n>        total tick yang dijalankan (default 216000 = 1 jam waktu game)
+ *   --seed <n>         seed sesi pertama (default 1)
+ *   --policy <p>       idle | random | script=<file> (default random)
+ *   --report <n>       interval laporan dalam tick (default 36000)
+ *   --arena <WxH>      ukuran arena, misal 3200x2400 (default 800x600)
+ */
+public class HeadlessMain {
+
+    // ==================== KONSTANTA ====================
+    private static final long DEFAULT_TICKS = 60L * 60 * TickScheduler.TICKS_PER_SECOND;
+    private static final long DEFAULT_REPORT_INTERVAL = 10L * 60 * TickScheduler.TICKS_PER_SECOND;
+    private static final Set<String> KNOWN_OPTIONS = Set.of("--ticks", "--seed", "--policy", "--report", "--arena");
+
+    // Alokasi per thread (HotSpot), null jika tidak didukung JVM
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        long totalTicks = DEFAULT_TICKS;
+        long seed = 1;
+        String policyName = "random";
+        long reportInterval = DEFAULT_REPORT_INTERVAL;
+        String arenaSpec = null;
+
+        // Setiap opsi butuh satu nilai; opsi terakhir tanpa nilai ditolak
+        for (int i = 0; i < args.length; i += 2) {
+            if (!KNOWN_OPTIONS.contains(args[i])) {
+                System.err.println("✗ Unknown argument: " + args[i]);
+                return;
+            }
+            if (i + 1 == args.length) {
+                System.err.println("✗ Missing value for argument: " + args[i]);
+                return;
+            }
+            String value = args[i + 1];
+            try {
+                switch (args[i]) {
+                    case "--ticks" -> totalTicks = Long.parseLong(value);
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--policy" -> policyName = value;
+                    case "--report" -> reportInterval = Long.parseLong(value);
+                    case "--arena" -> arenaSpec = value;
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("✗ Invalid value for " + args[i] + ": " + value);
+                return;
+            }
+        }
+
+        if (totalTicks <= 0) {
+            System.err.println("✗ Invalid value for --ticks: must be positive, got " + totalTicks);
+            return;
+        }
+        if (reportInterval <= 0) {
+            System.err.println("✗ Invalid value for --report: must be positive, got " + reportInterval);
+            return;
+        }
+
+        InputPolicy policy;
+        try {
+            policy = createPolicy(policyName, seed);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("✗ Invalid policy: " + e.getMessage());
+            return;
+        }
+
+        int[] arena;
+        try {
+            arena = GameSimulation.parseArenaSize(arenaSpec);
+        } catch (IllegalArgumentException e) {
+            System.err.println("✗ Invalid arena: " + e.getMessage());
+            return;
+        }
+
+        System.out.println("Headless run: " + totalTicks + " ticks, seed " + seed + ", policy " + policyName
+            + ", arena " + arena[0] + "x" + arena[1]);
+        run(totalTicks, seed, arena, policy, reportInterval);
+    }
+
+    /**
+     * Buat policy input dari nama argumen
+     */
+    private static InputPolicy createPolicy(String name, long seed) throws IOException {
+        if (name.equals("idle")) return InputPolicy.idle();
+        if (name.equals("random")) return new RandomInputPolicy(seed);
+        if (name.startsWith("script=")) return new ScriptedInputPolicy(Path.of(name.substring(7)));
+        throw new IllegalArgumentException("expected idle, random or script=<file>, got " + name);
+    }
+
+    // ==================== LOOP ====================
+
+    /**
+     * Jalankan tick tanpa jeda dan cetak laporan berkala
+     */
+    private static void run(long totalTicks, long seed, int[] arena, InputPolicy policy, long reportInterval) {
+        GameSimulation sim = new GameSimulation(seed, "headless", arena[0], arena[1], null);
+        int sessions = 1;
+        long bestScore = 0;
+        int peakEntities = 0;
+
+        long startNanos = System.nanoTime();
+        long startBytes = allocatedBytes();
+        long windowNanos = startNanos;
+        long windowBytes = startBytes;
+
+        for (long tick = 1; tick <= totalTicks; tick++) {
+            if (sim.isGameOver()) {
+                bestScore = Math.max(bestScore, sim.getPlayer().getScore());
+                sim = new GameSimulation(seed + sessions, "headless", arena[0], arena[1], null);
+                sessions++;
+            }
+
+            policy.beforeTick(sim, sim.getCurrentTick());
+            sim.tick();
+            peakEntities = Math.max(peakEntities, entityCount(sim));
+
+            if (tick % reportInterval == 0) {
+                long now = System.nanoTime();
+                long bytes = allocatedBytes();
+                printReport("tick " + tick, sim, reportInterval, now - windowNanos, bytes - windowBytes);
+                windowNanos = now;
+                windowBytes = bytes;
+            }
+        }
+
+        bestScore = Math.max(bestScore, sim.getPlayer().getScore());
+        long elapsed = System.nanoTime() - startNanos;
+        long allocated = allocatedBytes() - startBytes;
+
+        System.out.println("==================== SUMMARY ====================");
+        printReport("total", sim, totalTicks, elapsed, allocated);
+        System.out.println("  Sessions       : " + sessions + " (best score " + bestScore + ")");
+        System.out.println("  Peak entities  : " + peakEntities);
+    }
+
+    // ==================== LAPORAN ====================
+
+    private static void printReport(String label, GameSimulation sim, long ticks, long nanos, long bytes) {
+        double seconds = nanos / 1e9;
+        double tps = seconds > 0 ? ticks / seconds : 0;
+        System.out.printf("%-12s %,10.0f ticks/s (%.0fx real time) | bandits %d, bullets %d, enemy bullets %d | %s%n",
+            label,
+            tps,
+            tps / TickScheduler.TICKS_PER_SECOND,
+            sim.getBandits().getCount(),
+            sim.getBullets().getCount(),
+            sim.getEnemyBullets().getCount(),
+            formatAllocation(bytes, seconds, ticks));
+    }
+
+    private static String formatAllocation(long bytes, double seconds, long ticks) {
+        if (THREADS == null) return "alloc n/a";
+        double mbPerSecond = seconds > 0 ? bytes / seconds / (1024 * 1024) : 0;
+        return String.format("alloc %.1f MB/s, %,d B/tick", mbPerSecond, ticks > 0 ? bytes / ticks : 0);
+    }
+
+    private static int entityCount(GameSimulation sim) {
+        return sim.getBandits().getCount() + sim.getBullets().getCount() + sim.getEnemyBullets().getCount();
+    }
+
+    /**
+     * Total byte yang dialokasikan semua thread hidup (termasuk worker fork/join)
+     * @return -1 jika JVM tidak mendukung pengukuran alokasi
+     */
+    private static long allocatedBytes() {
+        if (THREADS == null) return -1;
+        long total = 0;
+        for (long bytes : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) {
+            if (bytes > 0) total += bytes;
+        }
+        return total;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+}
@@ -1,13 +1,39 @@
 package main;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
 import database.Database;
+import database.HistoryRepository;
+import database.LevelRepository;
+import database.HistoryTransfer;
 import presenter.GamePresenter;
+import presenter.ReplayPlayer;
 import util.AssetManager;
 import util.AudioManager;
+import util.Metrics;
+import util.TickScheduler;
 
 public class Main {
 
+    private static final String DEFAULT_JFR_FILE = "game.jfr";
+
     public static void main(String[] args) {
+        // Rekaman JFR sejak launch: --jfr atau --jfr=<file>, bisa digabung dengan mode lain
+        args = startFlightRecording(args);
+        
+        // Mode replay headless: --replay <file>
+        if (args.length >= 2 && args[0].equals("--replay")) {
+            runReplay(Path.of(args[1]));
+            return;
+        }
+        
         // Print asset diagnostics
         AssetManager.printAssetDiagnostics();
         // Print audio diagnostics
@@ -24,9 +50,24 @@ public class Main {
             System.err.println("✗ Database connection failed!\n");
         }
         
+        // Mode transfer history: --export-history <file> [csv] / --import-history <file> [csv]
+        if (args.length >= 2 && runHistoryTransfer(args)) {
+            return;
+        }
+        
+        // Pruning rollup leaderboard berkala
+        Database.startMaintenance();
+        
+        // Metrik runtime via JMX (overlay di game: F3)
+        Metrics.registerMBean();
+        
         // Start game
         System.out.println("Starting game...\n");
-        GamePresenter presenter = new GamePresenter();
+        // Backend history bisa dipilih: -Dhistory.store=sqlite|memory|log
+        // (layout level siap pakai hanya disimpan bila backend-nya SQLite)
+        String store = System.getProperty("history.store");
+        GamePresenter presenter = new GamePresenter(
+            HistoryRepository.create(store), LevelRepository.create(store));
         presenter.showMenu();
         
         // Add shutdown hook to cleanup audio
@@ -35,4 +76,88 @@ public class Main {
             AudioManager.cleanup();
         }));
     }
-}
\ No newline at end of file
+    
+    /**
+     * Mulai rekaman Java Flight Recorder jika ada argumen --jfr[=file]
+     * Memakai konfigurasi "default" JDK ditambah event tmd.* (GameEvents);
+     * file ditulis saat JVM keluar.
+     * @return argumen sisa tanpa --jfr
+     */
+    private static String[] startFlightRecording(String[] args) {
+        List<String> rest = new ArrayList<>();
+        String file = null;
+        for (String arg : args) {
+            if (arg.equals("--jfr")) {
+                file = DEFAULT_JFR_FILE;
+            } else if (arg.startsWith("--jfr=")) {
+                file = arg.substring("--jfr=".length());
+            } else {
+                rest.add(arg);
+            }
+        }
+        
+        if (file != null) {
+            try {
+                Recording recording = new Recording(Configuration.getConfiguration("default"));
+                recording.setName("tmd");
+                recording.setToDisk(true);
+                recording.setDestination(Path.of(file));
+                recording.setDumpOnExit(true);
+                recording.start();
+                System.out.println("✓ Flight recording dimulai, ditulis ke " + file + " saat keluar");
+            } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+                System.err.println("⚠ Gagal memulai flight recording: " + e.getMessage());
+            }
+        }
+        return rest.toArray(new String[0]);
+    }
+    
+    /**
+     * Jalankan export/import history dari command line
+     * @return true jika argumen dikenali (game tidak dijalankan)
+     */
+    private static boolean runHistoryTransfer(String[] args) {
+        Path file = Path.of(args[1]);
+        HistoryTransfer.Format format = (args.length > 2 && args[2].equalsIgnoreCase("csv"))
+            ? HistoryTransfer.Format.CSV
+            : HistoryTransfer.Format.BINARY;
+        
+        switch (args[0]) {
+            case "--export-history" -> {
+                long rows = Database.exportHistory(file, format);
+                System.out.println("Exported " + rows + " history rows to " + file);
+                return true;
+            }
+            case "--import-history" -> {
+                long rows = Database.importHistory(file, format);
+                System.out.println("Imported " + rows + " new history rows from " + file);
+                return true;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+    
+    /**
+     * Jalankan ulang rekaman sesi tanpa tampilan dan cetak hasilnya
+     */
+    private static void runReplay(Path file) {
+        try {
+            ReplayPlayer.Result result = ReplayPlayer.play(file);
+            System.out.println("Replay " + file + " (seed " + result.getSeed() + ")");
+            System.out.println("  Player         : " + result.getUsername());
+            System.out.println("  Arena          : " + result.getWorldWidth() + "x" + result.getWorldHeight());
+            System.out.println("  Score          : " + result.getScore()
+                + (result.isGameOver() ? " (game over)" : ""));
+            System.out.println("  Bullets fired  : " + result.getBulletsFired()
+                + ", missed: " + result.getBulletsMissed());
+            System.out.println("  Ticks          : " + result.getTicks());
+            System.out.printf("  Speed          : %.0f ticks/s (%.1fx real time)%n",
+                result.getTicksPerSecond(),
+                result.getTicksPerSecond() / TickScheduler.TICKS_PER_SECOND);
+        } catch (IOException e) {
+            System.err.println("✗ Replay gagal: " + e.getMessage());
+        }
+    }
+}
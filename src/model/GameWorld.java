@@ -0,0 +1,83 @@
+package model;
+
+import ecs.Archetype;
+import ecs.World;
+
+/**
+ * GameWorld - Semua entitas dinamis permainan di atas ECS
+ * Menggantikan list model per tipe (bandit, peluru, peluru musuh):
+ * - bandit       : posisi, collider, HP, faksi bandit
+ * - peluru       : posisi, velocity, collider, faksi player
+ * - peluru musuh : posisi, velocity, collider, faksi bandit
+ * Peluru player dan peluru musuh memakai layout yang sama; hanya faksinya
+ * (komponen bersama) yang membuat keduanya menjadi archetype terpisah.
+ * Player dan batu tetap berupa model biasa (satu player, batu statis).
+ */
+public class GameWorld {
+
+    // ==================== FAKSI ====================
+    public static final byte FACTION_PLAYER = 1;
+    public static final byte FACTION_BANDIT = 2;
+
+    // ==================== KONSTANTA ENTITAS ====================
+    public static final int BANDIT_SIZE = 40;               // Ukuran sprite bandit (40x40 pixel)
+    public static final double BANDIT_SPEED = 0.5;          // Kecepatan gerak bandit per tick
+    public static final int BANDIT_HEALTH = 1;              // Mati dengan satu tembakan
+    public static final int BULLET_SIZE = 6;                // Ukuran peluru (6x6 pixel)
+
+    // ==================== ARCHETYPE ====================
+    private final World world = new World();
+    private final Archetype bandits = world.createArchetype("bandit",
+        World.POSITION | World.COLLIDER | World.HEALTH, FACTION_BANDIT);
+    private final Archetype bullets = world.createArchetype("bullet",
+        World.POSITION | World.VELOCITY | World.COLLIDER, FACTION_PLAYER);
+    private final Archetype enemyBullets = world.createArchetype("enemy-bullet",
+        World.POSITION | World.VELOCITY | World.COLLIDER, FACTION_BANDIT);
+
+    public World getWorld() { return world; }
+    public Archetype getBandits() { return bandits; }
+    public Archetype getBullets() { return bullets; }
+    public Archetype getEnemyBullets() { return enemyBullets; }
+
+    // ==================== SPAWN ====================
+
+    /**
+     * Spawn bandit di posisi tertentu
+     * @return handle entitas (untuk event terjadwal seperti tembakan)
+     */
+    public int spawnBandit(double x, double y) {
+        return spawnBandit(x, y, BANDIT_HEALTH);
+    }
+
+    /**
+     * Spawn bandit dengan HP tertentu (bandit kuat di wave lanjut)
+     */
+    public int spawnBandit(double x, double y, int health) {
+        int row = bandits.spawn();
+        bandits.getXs()[row] = x;
+        bandits.getYs()[row] = y;
+        bandits.getColliderSizes()[row] = BANDIT_SIZE;
+        bandits.getHealths()[row] = health;
+        return bandits.getEntities()[row];
+    }
+
+    /** Spawn peluru player */
+    public int spawnBullet(double x, double y, double vx, double vy) {
+        return spawnProjectile(bullets, x, y, vx, vy);
+    }
+
+    /** Spawn peluru musuh */
+    public int spawnEnemyBullet(double x, double y, double vx, double vy) {
+        return spawnProjectile(enemyBullets, x, y, vx, vy);
+    }
+
+    private static int spawnProjectile(Archetype archetype, double x, double y, double vx, double vy) {
+        int row = archetype.spawn();
+        archetype.getXs()[row] = x;
+        archetype.getYs()[row] = y;
+        archetype.getVelocityXs()[row] = vx;
+        archetype.getVelocityYs()[row] = vy;
+        archetype.getColliderSizes()[row] = BULLET_SIZE;
+        return archetype.getEntities()[row];
+    }
+}
@@ -12,15 +12,29 @@ public class HistoryModel {
     private final int score;
     private final int ammo;
     private final int bulletsMissed;
+    private final int bulletsFired;         // 0 = tidak diketahui untuk baris lama (sebelum skema v2)
+    private final long durationMs;          // Lama sesi (0 = tidak diketahui)
+    private final long createdAt;           // Epoch detik (0 = tidak diketahui)
     
     /**
      * Constructor - Buat history record
      */
     public HistoryModel(String username, int score, int ammo, int bulletsMissed) {
+        this(username, score, ammo, bulletsMissed, 0, 0, 0);
+    }
+
+    /**
+     * Constructor lengkap - Dipakai saat export/import history
+     */
+    public HistoryModel(String username, int score, int ammo, int bulletsMissed,
+                        int bulletsFired, long durationMs, long createdAt) {
         this.username = username;
         this.score = score;
         this.ammo = ammo;
         this.bulletsMissed = bulletsMissed;
+        this.bulletsFired = bulletsFired;
+        this.durationMs = durationMs;
+        this.createdAt = createdAt;
     }
 
     // ==================== GETTERS ====================
@@ -40,4 +54,16 @@ public class HistoryModel {
     public int getBulletsMissed() { 
         return bulletsMissed; 
     }
+
+    public int getBulletsFired() {
+        return bulletsFired;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
 }
@@ -0,0 +1,50 @@
+// ==================== LeaderboardWindow.java ====================
+package model;
+
+/**
+ * LeaderboardWindow - Rentang waktu leaderboard
+ * DAILY dan WEEKLY menampilkan skor terbaik per pemain dalam bucket UTC
+ * (hari kalender / minggu mulai Senin). Minggu tidak terpotong di tahun baru,
+ * sama dengan bucket SQLite date(created_at, '-6 days', 'weekday 1').
+ * ALL_TIME menampilkan semua permainan tanpa pengelompokan.
+ */
+public enum LeaderboardWindow {
+
+    DAILY("DAILY"),
+    WEEKLY("WEEKLY"),
+    ALL_TIME("ALL TIME");
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private final String label;
+
+    LeaderboardWindow(String label) {
+        this.label = label;
+    }
+
+    /** Teks tombol di menu */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Cek apakah waktu permainan masuk bucket yang sama dengan waktu sekarang
+     * @param createdAt Epoch detik permainan
+     * @param now Epoch detik saat ini
+     */
+    public boolean contains(long createdAt, long now) {
+        return switch (this) {
+            case DAILY -> Math.floorDiv(createdAt, SECONDS_PER_DAY) == Math.floorDiv(now, SECONDS_PER_DAY);
+            case WEEKLY -> weekOf(createdAt) == weekOf(now);
+            case ALL_TIME -> true;
+        };
+    }
+
+    /**
+     * Nomor minggu (mulai Senin) sejak epoch; satu nomor per tanggal Senin
+     * 1970-01-01 adalah hari Kamis, geser 3 hari agar batas minggu jatuh di Senin
+     */
+    private static long weekOf(long epochSeconds) {
+        return Math.floorDiv(Math.floorDiv(epochSeconds, SECONDS_PER_DAY) + 3, 7);
+    }
+}
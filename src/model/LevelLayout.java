@@ -0,0 +1,44 @@
+package model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * LevelLayout - Susunan level yang sudah jadi (immutable)
+ * Berisi semua bagian level yang ditentukan sebelum ronde dimulai:
+ * ukuran arena, titik spawn player, dan posisi batu. Dibuat dari seed oleh
+ * LevelGenerator sehingga bisa dibuat lebih dulu di thread lain, di-cache,
+ * atau disimpan ke database lalu dipakai ulang tanpa menghitung ulang.
+ */
+public class LevelLayout {
+
+    // ==================== ATRIBUT ====================
+    private final long seed;
+    private final int generatorVersion;     // Versi LevelGenerator yang membuat layout ini
+    private final int worldWidth;
+    private final int worldHeight;
+    private final int playerX;
+    private final int playerY;
+    private final List<RockModel> rocks;
+
+    public LevelLayout(long seed, int generatorVersion, int worldWidth, int worldHeight,
+                       int playerX, int playerY, List<RockModel> rocks) {
+        this.seed = seed;
+        this.generatorVersion = generatorVersion;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.playerX = playerX;
+        this.playerY = playerY;
+        this.rocks = Collections.unmodifiableList(rocks);
+    }
+
+    // ==================== GETTERS ====================
+
+    public long getSeed() { return seed; }
+    public int getGeneratorVersion() { return generatorVersion; }
+    public int getWorldWidth() { return worldWidth; }
+    public int getWorldHeight() { return worldHeight; }
+    public int getPlayerX() { return playerX; }
+    public int getPlayerY() { return playerY; }
+    public List<RockModel> getRocks() { return rocks; }
+}
@@ -23,19 +23,34 @@ public class PlayerModel {
     private static final int MAX_HEALTH = 100;
     private static final int PLAYER_SIZE = 40;
     
-    // Batas layar (800x600)
+    // Arena default (seukuran layar 800x600)
+    private static final int DEFAULT_WORLD_WIDTH = 800;
+    private static final int DEFAULT_WORLD_HEIGHT = 600;
     private static final int MIN_X = 0;
     private static final int MIN_Y = 0;
-    private static final int MAX_X = 760;  // 800 - 40 (ukuran player)
-    private static final int MAX_Y = 560;  // 600 - 40 (ukuran player)
+
+    // Batas arena dikurangi ukuran player
+    private final int maxX;
+    private final int maxY;
 
     /**
-     * Constructor - Inisialisasi player baru
+     * Constructor - Inisialisasi player baru di arena default 800x600
      * @param startX Posisi awal X
      * @param startY Posisi awal Y
      * @param username Nama pemain
      */
     public PlayerModel(int startX, int startY, String username) {
+        this(startX, startY, username, DEFAULT_WORLD_WIDTH, DEFAULT_WORLD_HEIGHT);
+    }
+
+    /**
+     * Constructor - Inisialisasi player baru di arena dengan ukuran tertentu
+     * @param worldWidth Lebar arena
+     * @param worldHeight Tinggi arena
+     */
+    public PlayerModel(int startX, int startY, String username, int worldWidth, int worldHeight) {
+        this.maxX = worldWidth - PLAYER_SIZE;
+        this.maxY = worldHeight - PLAYER_SIZE;
         this.x = startX;
         this.y = startY;
         this.username = username;
@@ -125,7 +140,7 @@ public class PlayerModel {
     
     /**
      * Gerakkan player dengan delta tertentu
-     * Dibatasi oleh batas layar
+     * Dibatasi oleh batas arena
      * @param dx Perubahan X
      * @param dy Perubahan Y
      */
@@ -133,11 +148,11 @@ public class PlayerModel {
         x += dx;
         y += dy;
 
-        // Clamp posisi dalam batas layar
+        // Clamp posisi dalam batas arena
         if (x < MIN_X) x = MIN_X;
         if (y < MIN_Y) y = MIN_Y;
-        if (x > MAX_X) x = MAX_X;
-        if (y > MAX_Y) y = MAX_Y;
+        if (x > maxX) x = maxX;
+        if (y > maxY) y = maxY;
     }
 
     /**
@@ -0,0 +1,430 @@
+package presenter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import ecs.Archetype;
+import model.*;
+import util.FlowField;
+import util.GameEvents;
+import util.Metrics;
+import util.RockMap;
+import util.TickScheduler;
+
+/**
+ * GameSimulation - Logika permainan murni tanpa Swing dan audio
+ * Seluruh keacakan berasal dari satu Random ber-seed per sesi dan waktu diukur
+ * dalam tick, sehingga seed + urutan input per tick selalu menghasilkan
+ * sesi yang sama persis (dipakai untuk replay dan verifikasi skor).
+ * Input dari thread UI dimasukkan ke antrian dan baru diterapkan di awal tick.
+ */
+public class GameSimulation {
+
+    // ==================== KONSTANTA PERMAINAN ====================
+    public static final int SCREEN_WIDTH = 800;                  // Lebar viewport (= arena default)
+    public static final int SCREEN_HEIGHT = 600;                 // Tinggi viewport (= arena default)
+    private static final int FLOW_FIELD_MARGIN = 100;            // Jendela flow field = layar + margin
+    private static final int BANDIT_SHOOT_INTERVAL = 1500;       // Interval tembakan bandit (ms)
+    private static final double BANDIT_FIRE_JITTER = 0.2;        // Variasi acak cooldown tembakan (±20%)
+    private static final int BANDIT_KILL_SCORE = 100;            // Skor per bunuh bandit
+
+    // Jenis input per tick
+    public static final byte INPUT_MOVE = 1;
+    public static final byte INPUT_SHOT = 2;
+    public static final byte INPUT_BUDGET = 3;                   // Batas bandit aktif dari FrameBudget
+
+    /**
+     * Penerima kejadian simulasi (suara, dialog, akhir game)
+     * Dipanggil dari thread simulasi
+     */
+    public interface Listener {
+        default void onPlayerShot() { }
+        default void onBanditShot() { }
+        default void onBanditKilled() { }
+        default void onGameOver() { }
+    }
+
+    /**
+     * Satu input pemain: gerak (dx, dy) atau tembak ke (x, y)
+     */
+    private static final class Command {
+        final byte type;
+        final int a;
+        final int b;
+
+        Command(byte type, int a, int b) {
+            this.type = type;
+            this.a = a;
+            this.b = b;
+        }
+    }
+
+    // ==================== OBJEK PERMAINAN ====================
+    private final PlayerModel player;
+    private final PlayerStatsModel stats;
+    private final GameWorld world = new GameWorld();
+    private final List<RockModel> rocks = new ArrayList<>();
+
+    // ==================== MESIN SIMULASI ====================
+    private final long seed;
+    private final int worldWidth;
+    private final int worldHeight;
+    private final Random random;
+    private final Listener listener;
+    private final TickScheduler scheduler = new TickScheduler();
+    private final FlowField flowField;
+    private final RockMap rockMap;
+    private final WorldUpdater worldUpdater;
+    private final WaveDirector waveDirector = new WaveDirector();
+    private final long fireCooldownTicks = TickScheduler.msToTicks(BANDIT_SHOOT_INTERVAL);
+    private final Queue<Command> pendingInput = new ConcurrentLinkedQueue<>();
+    private ReplayRecorder recorder;
+    private boolean gameOver = false;
+
+    /**
+     * Constructor - Siapkan sesi baru di arena default (seukuran layar)
+     * @param seed Seed RNG sesi (sama dengan seed di file replay)
+     * @param username Nama pemain
+     * @param listener Penerima kejadian, boleh null
+     */
+    public GameSimulation(long seed, String username, Listener listener) {
+        this(seed, username, SCREEN_WIDTH, SCREEN_HEIGHT, listener);
+    }
+
+    /**
+     * Constructor - Siapkan sesi baru dengan ukuran arena tertentu
+     * Layout level dibuat langsung di thread pemanggil
+     * @param worldWidth Lebar arena (pixel), minimal seukuran layar
+     * @param worldHeight Tinggi arena (pixel), minimal seukuran layar
+     */
+    public GameSimulation(long seed, String username, int worldWidth, int worldHeight, Listener listener) {
+        this(LevelGenerator.generate(seed, worldWidth, worldHeight), username, listener);
+    }
+
+    /**
+     * Constructor - Siapkan sesi baru dari layout yang sudah jadi
+     * (misal dari LevelPipeline), tanpa membuat level lagi
+     * @param layout Layout level; seed-nya menjadi seed RNG sesi
+     */
+    public GameSimulation(LevelLayout layout, String username, Listener listener) {
+        long seed = layout.getSeed();
+        int worldWidth = layout.getWorldWidth();
+        int worldHeight = layout.getWorldHeight();
+        checkArenaSize(worldWidth, worldHeight);
+        this.seed = seed;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.random = new Random(seed);
+        this.listener = (listener != null) ? listener : new Listener() { };
+        // Jendela flow field seukuran layar di sekitar player (seluruh grid di arena default)
+        this.flowField = new FlowField(worldWidth, worldHeight,
+            SCREEN_WIDTH + 2 * FLOW_FIELD_MARGIN, SCREEN_HEIGHT + 2 * FLOW_FIELD_MARGIN);
+
+        player = new PlayerModel(layout.getPlayerX(), layout.getPlayerY(), username, worldWidth, worldHeight);
+        stats = new PlayerStatsModel(username);
+
+        rocks.addAll(layout.getRocks());
+        // Batu statis setelah ini: bake sekali ke peta tabrakan
+        this.rockMap = new RockMap(rocks, worldWidth, worldHeight);
+        flowField.setObstacles(rocks, GameWorld.BANDIT_SIZE);
+        this.worldUpdater = new WorldUpdater(world, rockMap, flowField, worldWidth, worldHeight);
+
+        scheduler.schedule(waveDirector.spawnIntervalTicks(1), this::spawnWave);
+        // Tembakan dijadwalkan per bandit saat spawn (lihat scheduleBanditFire)
+    }
+
+    // ==================== GETTER ====================
+
+    public long getSeed() { return seed; }
+    public int getWorldWidth() { return worldWidth; }
+    public int getWorldHeight() { return worldHeight; }
+    public long getCurrentTick() { return scheduler.getCurrentTick(); }
+    public boolean isGameOver() { return gameOver; }
+    public PlayerModel getPlayer() { return player; }
+    public PlayerStatsModel getStats() { return stats; }
+    public GameWorld getGameWorld() { return world; }
+    public Archetype getBandits() { return world.getBandits(); }
+    public Archetype getBullets() { return world.getBullets(); }
+    public Archetype getEnemyBullets() { return world.getEnemyBullets(); }
+    public List<RockModel> getRocks() { return rocks; }
+    public RockMap getRockMap() { return rockMap; }
+    public int getWave() { return waveDirector.waveAt(scheduler.getCurrentTick()); }
+    public int getBanditBudget() { return waveDirector.getBanditBudget(); }
+    public int getDeferredBandits() { return waveDirector.getDeferred(); }
+
+    /**
+     * Durasi sesi dalam waktu simulasi (tidak termasuk pause)
+     */
+    public long getElapsedMs() {
+        return scheduler.getCurrentTick() * 1000 / TickScheduler.TICKS_PER_SECOND;
+    }
+
+    /**
+     * Ukuran arena dari teks "LEBARxTINGGI" (misal "3200x2400")
+     * @return {lebar, tinggi}; ukuran layar jika spec null atau kosong
+     * @throws IllegalArgumentException jika format salah atau lebih kecil dari layar
+     */
+    public static int[] parseArenaSize(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return new int[] {SCREEN_WIDTH, SCREEN_HEIGHT};
+        }
+        String[] parts = spec.trim().toLowerCase().split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Arena size must look like 3200x2400: " + spec);
+        }
+        int width;
+        int height;
+        try {
+            width = Integer.parseInt(parts[0].trim());
+            height = Integer.parseInt(parts[1].trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Arena size must look like 3200x2400: " + spec);
+        }
+        checkArenaSize(width, height);
+        return new int[] {width, height};
+    }
+
+    static void checkArenaSize(int width, int height) {
+        if (width < SCREEN_WIDTH || height < SCREEN_HEIGHT) {
+            throw new IllegalArgumentException("Arena must be at least "
+                + SCREEN_WIDTH + "x" + SCREEN_HEIGHT + ": " + width + "x" + height);
+        }
+    }
+
+    /**
+     * Rekam semua input yang diterapkan mulai tick berikutnya
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    // ==================== INPUT ====================
+
+    /**
+     * Antrikan gerakan player (aman dipanggil dari thread UI)
+     */
+    public void queueMove(int dx, int dy) {
+        pendingInput.add(new Command(INPUT_MOVE, dx, dy));
+    }
+
+    /**
+     * Antrikan tembakan ke titik tertentu (aman dipanggil dari thread UI)
+     */
+    public void queueShot(int targetX, int targetY) {
+        pendingInput.add(new Command(INPUT_SHOT, targetX, targetY));
+    }
+
+    /**
+     * Antrikan batas bandit aktif baru (aman dipanggil dari thread UI)
+     * Lewat antrian input agar ikut terekam dan replay tetap identik
+     */
+    public void queueBanditBudget(int budget) {
+        pendingInput.add(new Command(INPUT_BUDGET, budget, 0));
+    }
+
+    // ==================== TICK ====================
+
+    /**
+     * Jalankan satu tick: terapkan input, jalankan event terjadwal, update dunia
+     */
+    public void tick() {
+        if (gameOver) return;
+        GameEvents.Tick event = new GameEvents.Tick();
+        event.begin();
+        long startNanos = System.nanoTime();
+        long startAllocated = Metrics.currentThreadAllocatedBytes();
+
+        Command command;
+        while ((command = pendingInput.poll()) != null) {
+            apply(command.type, command.a, command.b);
+        }
+        if (recorder != null) {
+            recorder.endTick();
+        }
+
+        scheduler.advance();
+
+        // Peluru, peluru musuh, bandit, dan tabrakan (paralel di atas threshold)
+        int kills = worldUpdater.update(player, stats);
+        for (int i = 0; i < kills; i++) {
+            player.addScore(BANDIT_KILL_SCORE);
+            listener.onBanditKilled();
+        }
+        checkGameOver();
+
+        Metrics.recordTick(startNanos, startAllocated, world.getBandits().getCount(),
+            world.getBullets().getCount(), world.getEnemyBullets().getCount());
+
+        event.tick = scheduler.getCurrentTick();
+        event.bandits = world.getBandits().getCount();
+        event.bullets = world.getBullets().getCount();
+        event.enemyBullets = world.getEnemyBullets().getCount();
+        event.kills = kills;
+        event.commit();
+    }
+
+    /**
+     * Terapkan satu input (juga dipakai langsung oleh replay)
+     */
+    void apply(byte type, int a, int b) {
+        if (recorder != null) {
+            recorder.record(type, a, b);
+        }
+        switch (type) {
+            case INPUT_MOVE -> movePlayer(a, b);
+            case INPUT_SHOT -> shoot(a, b);
+            case INPUT_BUDGET -> applyBanditBudget(a);
+            default -> throw new IllegalArgumentException("Unknown input type: " + type);
+        }
+    }
+
+    /**
+     * Cek apakah game over (HP habis)
+     */
+    private void checkGameOver() {
+        if (player.getHp() <= 0 && !gameOver) {
+            gameOver = true;
+            stats.setBulletsRemaining(player.getAmmo());
+            stats.setScore(player.getScore());
+            listener.onGameOver();
+        }
+    }
+
+    // ==================== KONTROL PLAYER ====================
+
+    private void movePlayer(int dx, int dy) {
+        int nextX = player.getX() + dx;
+        int nextY = player.getY() + dy;
+
+        // Cek tabrakan dengan batu
+        if (canMoveTo(nextX, nextY)) {
+            player.move(dx, dy);
+        }
+    }
+
+    private void shoot(int targetX, int targetY) {
+        if (player.getAmmo() <= 0) return;
+
+        listener.onPlayerShot();
+        stats.incrementBulletsFired();
+
+        // Hitung arah peluru
+        double dx = targetX - (player.getX() + 20);
+        double dy = targetY - (player.getY() + 20);
+        double distance = Math.sqrt(dx * dx + dy * dy);
+
+        if (distance > 0) {
+            double vx = (dx / distance) * 8.0;
+            double vy = (dy / distance) * 8.0;
+            world.spawnBullet(player.getX() + 20, player.getY() + 20, vx, vy);
+            player.useAmmo();
+            stats.setBulletsRemaining(player.getAmmo());
+        }
+    }
+
+    /**
+     * Cek apakah player bisa pindah ke posisi tertentu
+     * Tidak boleh menabrak batu
+     */
+    private boolean canMoveTo(int x, int y) {
+        return !rockMap.intersects(x, y, 40, 40);
+    }
+
+    // ==================== BANDIT ====================
+
+    /**
+     * Spawn satu grup bandit sesuai wave saat ini lalu jadwalkan grup berikutnya
+     * Jumlah grup dipotong oleh budget bandit aktif (sisanya ditunda)
+     */
+    private void spawnWave() {
+        if (gameOver) return;
+        int wave = waveDirector.waveAt(scheduler.getCurrentTick());
+        int count = waveDirector.groupSize(wave, world.getBandits().getCount());
+        for (int i = 0; i < count; i++) {
+            spawnBandit(waveDirector.healthFor(wave, i));
+        }
+        scheduler.schedule(waveDirector.spawnIntervalTicks(wave), this::spawnWave);
+    }
+
+    /**
+     * Spawn bandit baru di bagian bawah layar yang sedang dilihat player
+     * (area seukuran layar berpusat di player, dijepit ke arena)
+     * Setiap bandit mendapat fase tembakan acak agar tidak menembak bersamaan
+     */
+    private void spawnBandit(int health) {
+        int x = viewX() + random.nextInt(SCREEN_WIDTH - 100) + 50;
+        int y = viewY() + SCREEN_HEIGHT - 100;
+
+        int bandit = world.spawnBandit(x, y, health);
+
+        long phase = 1 + (long) (random.nextDouble() * fireCooldownTicks);
+        scheduleBanditFire(bandit, phase);
+    }
+
+    /**
+     * Pasang budget bandit baru; berlaku mulai spawn berikutnya
+     */
+    private void applyBanditBudget(int budget) {
+        waveDirector.setBanditBudget(budget);
+    }
+
+    /**
+     * Jadwalkan tembakan berikutnya untuk satu bandit
+     * @param bandit Handle entitas bandit (tetap valid walau barisnya bergeser)
+     */
+    private void scheduleBanditFire(int bandit, long delayTicks) {
+        scheduler.schedule(delayTicks, () -> fireBandit(bandit));
+    }
+
+    /**
+     * Bandit menembak lalu menjadwalkan ulang dirinya dengan cooldown ber-jitter
+     * Bandit yang sudah mati (handle tidak valid lagi) tidak dijadwalkan lagi
+     */
+    private void fireBandit(int bandit) {
+        if (!world.getWorld().isAlive(bandit) || gameOver) return;
+
+        shootFromBandit(world.getWorld().rowOf(bandit));
+
+        double jitter = 1.0 + (random.nextDouble() * 2 - 1) * BANDIT_FIRE_JITTER;
+        long delay = Math.max(1, Math.round(fireCooldownTicks * jitter));
+        scheduleBanditFire(bandit, delay);
+    }
+
+    /**
+     * Bandit menembak peluru ke arah player
+     * @param row Baris bandit di archetype bandit
+     */
+    private void shootFromBandit(int row) {
+        Archetype bandits = world.getBandits();
+        int banditX = (int) bandits.getXs()[row];
+        int banditY = (int) bandits.getYs()[row];
+        double dx = (player.getX() + 20) - (banditX + 20);
+        double dy = (player.getY() + 20) - (banditY + 20);
+        double dist = Math.sqrt(dx * dx + dy * dy);
+
+        if (dist > 0) {
+            double vx = (dx / dist) * 4;
+            double vy = (dy / dist) * 4;
+            world.spawnEnemyBullet(banditX + 20, banditY + 20, vx, vy);
+            listener.onBanditShot();
+        }
+    }
+
+    // ==================== HELPER ====================
+
+    /** Pojok kiri atas viewport (seukuran layar, berpusat di player, dijepit ke arena) */
+    private int viewX() {
+        return clamp(player.getX() + 20 - SCREEN_WIDTH / 2, 0, worldWidth - SCREEN_WIDTH);
+    }
+
+    private int viewY() {
+        return clamp(player.getY() + 20 - SCREEN_HEIGHT / 2, 0, worldHeight - SCREEN_HEIGHT);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(value, max));
+    }
+}
@@ -0,0 +1,23 @@
+package presenter;
+
+/**
+ * InputPolicy - Sumber input pemain untuk simulasi tanpa tampilan
+ * Dipanggil sekali sebelum setiap tick untuk mengantrikan gerak/tembakan.
+ */
+@FunctionalInterface
+public interface InputPolicy {
+
+    /**
+     * Antrikan input untuk tick berikutnya
+     * @param sim Simulasi yang sedang berjalan
+     * @param tick Tick sesi yang akan dijalankan (mulai dari 0 per sesi)
+     */
+    void beforeTick(GameSimulation sim, long tick);
+
+    /**
+     * Policy tanpa input sama sekali
+     */
+    static InputPolicy idle() {
+        return (sim, tick) -> { };
+    }
+}
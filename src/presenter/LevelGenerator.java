@@ -0,0 +1,76 @@
+package presenter;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import model.LevelLayout;
+import model.RockModel;
+import util.PoissonDisk;
+
+/**
+ * LevelGenerator - Membuat LevelLayout dari seed
+ * Fungsi murni: seed dan ukuran arena yang sama selalu menghasilkan layout
+ * yang sama, dari thread mana pun. Layout memakai aliran RNG sendiri (diturunkan
+ * dari seed sesi) sehingga tidak mengganggu RNG simulasi selama ronde berjalan.
+ */
+public final class LevelGenerator {
+
+    // ==================== KONSTANTA ====================
+    /** Naikkan jika aturan pembuatan layout berubah (layout tersimpan versi lama diabaikan) */
+    public static final int VERSION = 1;
+
+    private static final int ROCKS_PER_SCREEN = 3;               // Jumlah batu per luas satu layar
+    private static final int MIN_ROCK_DISTANCE_FROM_PLAYER = 150; // Jarak minimum batu dari player
+    private static final int MIN_ROCK_SPACING = 100;             // Jarak minimum antar batu
+    private static final int ROCK_SIZE = 64;                     // Ukuran batu (64x64 pixel)
+    private static final int ROCK_MARGIN_X = 100;                // Jarak batu dari tepi kiri/kanan
+    private static final int ROCK_MARGIN_TOP = 150;              // Jarak batu dari tepi atas
+    private static final int ROCK_MARGIN_BOTTOM = 100;           // Jarak batu dari tepi bawah
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;    // Pemisah aliran RNG layout dari RNG sesi
+
+    private LevelGenerator() { }
+
+    /**
+     * Buat layout untuk seed sesi dan ukuran arena tertentu
+     * @throws IllegalArgumentException jika arena lebih kecil dari layar
+     */
+    public static LevelLayout generate(long seed, int worldWidth, int worldHeight) {
+        GameSimulation.checkArenaSize(worldWidth, worldHeight);
+        Random random = new Random(seed * SEED_MIX + 1);
+
+        // Player mulai di tengah arena
+        int playerX = worldWidth / 2 - 20;
+        int playerY = worldHeight / 2 - 40;
+
+        List<RockModel> rocks = generateSafeRocks(random, worldWidth, worldHeight, playerX, playerY);
+        return new LevelLayout(seed, VERSION, worldWidth, worldHeight, playerX, playerY, rocks);
+    }
+
+    /**
+     * Generate batu dengan posisi yang aman memakai sampling Poisson-disk
+     * Batu berjarak minimal MIN_ROCK_SPACING satu sama lain dan
+     * MIN_ROCK_DISTANCE_FROM_PLAYER dari posisi awal player.
+     * Jumlah batu sebanding dengan luas arena (3 per luas layar); jika area
+     * terlalu padat, dipakai sebanyak titik yang muat.
+     */
+    private static List<RockModel> generateSafeRocks(Random random, int worldWidth, int worldHeight,
+                                                     int playerX, int playerY) {
+        int rockCount = (int) ((long) ROCKS_PER_SCREEN * worldWidth * worldHeight
+            / (GameSimulation.SCREEN_WIDTH * GameSimulation.SCREEN_HEIGHT));
+
+        List<Point> points = PoissonDisk.sample(random,
+            ROCK_MARGIN_X, ROCK_MARGIN_TOP,
+            worldWidth - 2 * ROCK_MARGIN_X, worldHeight - ROCK_MARGIN_TOP - ROCK_MARGIN_BOTTOM,
+            MIN_ROCK_SPACING, playerX, playerY, MIN_ROCK_DISTANCE_FROM_PLAYER);
+
+        int n = Math.min(rockCount, points.size());
+        List<RockModel> rocks = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Point p = points.get(i);
+            rocks.add(new RockModel(p.x, p.y, ROCK_SIZE, ROCK_SIZE));
+        }
+        return rocks;
+    }
+}
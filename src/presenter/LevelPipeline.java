@@ -0,0 +1,105 @@
+package presenter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import database.LevelRepository;
+import model.LevelLayout;
+
+/**
+ * LevelPipeline - Menyiapkan layout level sebelum ronde dimulai
+ * Menjaga antrian beberapa seed berikutnya yang layout-nya dibuat paralel di
+ * thread pool background. Saat ronde baru dimulai, next() mengambil layout yang
+ * sudah jadi sehingga thread pemanggil (EDT) tidak perlu membuat level.
+ * Layout yang belum dimainkan disimpan ke LevelRepository dan diambil lagi
+ * saat aplikasi dibuka berikutnya; layout dihapus dari sana saat dimainkan.
+ */
+public class LevelPipeline {
+
+    // ==================== KONSTANTA ====================
+    private static final int PREFETCH_AHEAD = 3;            // Layout siap pakai yang dijaga di antrian
+    private static final int WORKER_THREADS =
+        Math.max(1, Math.min(PREFETCH_AHEAD, Runtime.getRuntime().availableProcessors() - 1));
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    // ==================== ATRIBUT ====================
+    private final int worldWidth;
+    private final int worldHeight;
+    private final LevelRepository repository;
+    private final Random seedSource;
+    private final ExecutorService executor;
+    private final Deque<CompletableFuture<LevelLayout>> upcoming = new ArrayDeque<>();
+
+    /**
+     * Constructor - Mulai menyiapkan layout untuk satu ukuran arena
+     * @param repository Penyimpanan layout (LevelRepository.NONE jika tidak disimpan)
+     * @param seedSource Sumber seed ronde berikutnya (hanya dipakai dari thread pemanggil)
+     */
+    public LevelPipeline(int worldWidth, int worldHeight, LevelRepository repository, Random seedSource) {
+        GameSimulation.checkArenaSize(worldWidth, worldHeight);
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.repository = repository;
+        this.seedSource = seedSource;
+        this.executor = Executors.newFixedThreadPool(WORKER_THREADS, r -> {
+            Thread t = new Thread(r, "level-gen-" + THREAD_COUNTER.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        // Slot pertama: layout tersimpan dari sesi sebelumnya, sisanya seed baru
+        CompletableFuture<List<LevelLayout>> stored = CompletableFuture.supplyAsync(
+            () -> repository.findPending(worldWidth, worldHeight, LevelGenerator.VERSION, PREFETCH_AHEAD),
+            executor);
+        for (int i = 0; i < PREFETCH_AHEAD; i++) {
+            int slot = i;
+            long fallbackSeed = seedSource.nextLong();
+            upcoming.add(stored.thenCompose(list -> slot < list.size()
+                ? CompletableFuture.completedFuture(list.get(slot))
+                : layout(fallbackSeed)));
+        }
+    }
+
+    /**
+     * Ambil layout untuk ronde berikutnya dan jadwalkan penggantinya
+     * Hanya menunggu jika layout belum selesai dibuat (misal ronde dimulai
+     * sesaat setelah aplikasi dibuka); jika pembuatan gagal, dibuat ulang di sini
+     */
+    public LevelLayout next() {
+        CompletableFuture<LevelLayout> head = upcoming.poll();
+        upcoming.add(layout(seedSource.nextLong()));
+
+        LevelLayout layout;
+        try {
+            layout = head.join();
+        } catch (RuntimeException e) {
+            System.err.println("⚠ Level generation failed, generating synchronously: " + e.getMessage());
+            layout = LevelGenerator.generate(seedSource.nextLong(), worldWidth, worldHeight);
+        }
+
+        LevelLayout played = layout;
+        executor.execute(() -> repository.markPlayed(played));
+        return layout;
+    }
+
+    public int getWorldWidth() { return worldWidth; }
+    public int getWorldHeight() { return worldHeight; }
+
+    /**
+     * Buat layout untuk seed baru di background lalu simpan ke repository
+     */
+    private CompletableFuture<LevelLayout> layout(long seed) {
+        return CompletableFuture.supplyAsync(() -> {
+            LevelLayout created = LevelGenerator.generate(seed, worldWidth, worldHeight);
+            repository.save(created);
+            return created;
+        }, executor);
+    }
+}
@@ -0,0 +1,47 @@
+package presenter;
+
+import java.util.Random;
+
+import ecs.Archetype;
+
+/**
+ * RandomInputPolicy - Pemain acak ber-seed untuk soak test
+ * Bergerak ke arah acak dan menembak bandit acak (atau titik acak jika belum ada bandit).
+ * Memakai Random sendiri agar tidak mengganggu urutan RNG simulasi.
+ */
+public class RandomInputPolicy implements InputPolicy {
+
+    // ==================== KONSTANTA ====================
+    private static final int MOVE_SPEED = 10;               // Langkah per input gerak (pixel)
+    private static final int MOVE_CHANCE = 6;               // Rata-rata 1 gerakan per 6 tick
+    private static final int SHOT_CHANCE = 15;              // Rata-rata 1 tembakan per 15 tick
+
+    private final Random random;
+
+    public RandomInputPolicy(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public void beforeTick(GameSimulation sim, long tick) {
+        if (random.nextInt(MOVE_CHANCE) == 0) {
+            int dx = (random.nextInt(3) - 1) * MOVE_SPEED;
+            int dy = (random.nextInt(3) - 1) * MOVE_SPEED;
+            if (dx != 0 || dy != 0) {
+                sim.queueMove(dx, dy);
+            }
+        }
+
+        if (random.nextInt(SHOT_CHANCE) == 0) {
+            Archetype bandits = sim.getBandits();
+            if (bandits.getCount() == 0) {
+                sim.queueShot(random.nextInt(sim.getWorldWidth()),
+                              random.nextInt(sim.getWorldHeight()));
+            } else {
+                int target = random.nextInt(bandits.getCount());
+                int half = bandits.getColliderSizes()[target] / 2;
+                sim.queueShot((int) bandits.getXs()[target] + half, (int) bandits.getYs()[target] + half);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package presenter;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * ReplayPlayer - Menjalankan ulang rekaman sesi tanpa tampilan
+ * Simulasi dijalankan secepat mungkin (tanpa sleep per frame), lalu skor
+ * akhir bisa dibandingkan dengan leaderboard atau dipakai untuk mengukur
+ * performa tick pada input yang sama persis.
+ */
+public class ReplayPlayer {
+
+    /**
+     * Hasil replay
+     */
+    public static class Result {
+        private final long seed;
+        private final String username;
+        private final int worldWidth;
+        private final int worldHeight;
+        private final long ticks;
+        private final int score;
+        private final int bulletsFired;
+        private final int bulletsMissed;
+        private final boolean gameOver;
+        private final long elapsedNanos;
+
+        Result(GameSimulation sim, long elapsedNanos) {
+            this.seed = sim.getSeed();
+            this.username = sim.getPlayer().getUsername();
+            this.worldWidth = sim.getWorldWidth();
+            this.worldHeight = sim.getWorldHeight();
+            this.ticks = sim.getCurrentTick();
+            this.score = sim.getPlayer().getScore();
+            this.bulletsFired = sim.getStats().getBulletsFired();
+            this.bulletsMissed = sim.getStats().getBulletsMissed();
+            this.gameOver = sim.isGameOver();
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getSeed() { return seed; }
+        public String getUsername() { return username; }
+        public int getWorldWidth() { return worldWidth; }
+        public int getWorldHeight() { return worldHeight; }
+        public long getTicks() { return ticks; }
+        public int getScore() { return score; }
+        public int getBulletsFired() { return bulletsFired; }
+        public int getBulletsMissed() { return bulletsMissed; }
+        public boolean isGameOver() { return gameOver; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        /** Tick per detik waktu nyata selama replay */
+        public double getTicksPerSecond() {
+            return elapsedNanos > 0 ? ticks * 1e9 / elapsedNanos : 0;
+        }
+    }
+
+    /**
+     * Replay dari file
+     */
+    public static Result play(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return play(in);
+        }
+    }
+
+    /**
+     * Replay dari stream rekaman ReplayRecorder
+     */
+    public static Result play(InputStream source) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(source));
+        if (in.readInt() != ReplayRecorder.MAGIC) {
+            throw new IOException("Not a replay file (bad magic)");
+        }
+        int version = in.readUnsignedByte();
+        if (version < 1 || version > ReplayRecorder.FORMAT_VERSION) {
+            throw new IOException("Unsupported replay format version: " + version);
+        }
+        if (version < ReplayRecorder.MIN_PLAYABLE_VERSION) {
+            // Seed yang sama menghasilkan level/spawn berbeda dengan aturan yang baru
+            throw new IOException("Replay format version " + version
+                + " uses older level, spawn or movement rules and can no longer be replayed");
+        }
+        long seed = in.readLong();
+        String username = in.readUTF();
+        int worldWidth = in.readInt();
+        int worldHeight = in.readInt();
+
+        GameSimulation sim;
+        try {
+            sim = new GameSimulation(seed, username, worldWidth, worldHeight, null);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Bad arena size in replay: " + e.getMessage());
+        }
+        long start = System.nanoTime();
+
+        while (true) {
+            long idle = ReplayRecorder.readVarLong(in);
+            for (long i = 0; i < idle && !sim.isGameOver(); i++) {
+                sim.tick();
+            }
+
+            long inputs = ReplayRecorder.readVarLong(in);
+            if (inputs == 0 || sim.isGameOver()) break;
+
+            for (long i = 0; i < inputs; i++) {
+                byte type = in.readByte();
+                int a = (int) ReplayRecorder.unzigzag(ReplayRecorder.readVarLong(in));
+                int b = (int) ReplayRecorder.unzigzag(ReplayRecorder.readVarLong(in));
+                sim.apply(type, a, b);
+            }
+            sim.tick();
+        }
+
+        return new Result(sim, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,181 @@
+package presenter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * ReplayRecorder - Merekam seed dan input per tick dari satu sesi
+ * Format biner (lihat ReplayPlayer untuk pembacanya):
+ *   header  : MAGIC "TMDR", versi (1 byte), seed (long), username (UTF),
+ *             lebar dan tinggi arena (int)
+ *   frame   : varint jumlah tick kosong sebelumnya, varint jumlah input,
+ *             lalu per input: tipe (1 byte), a dan b (zigzag varint)
+ *   akhir   : varint tick kosong tersisa, varint 0
+ * Tick tanpa input hanya dihitung (run-length), sehingga sesi panjang
+ * dengan sedikit input tetap berukuran beberapa KB.
+ * Rekaman disimpan di memori dan baru ditulis ke disk setelah sesi selesai
+ * agar thread simulasi tidak melakukan I/O.
+ *
+ * Riwayat versi format. Versi di bawah MIN_PLAYABLE_VERSION ditolak, karena
+ * seed yang sama menghasilkan sesi berbeda dengan aturan simulasi sekarang:
+ *   1  - header tanpa ukuran arena (selalu 800x600)
+ *   2  - ukuran arena di header
+ *   3  - batu ditempatkan dengan Poisson-disk
+ *   4  - level dari LevelGenerator
+ *   5  - spawn bandit per wave
+ *   6  - level-of-detail bandit jauh
+ *   7  - spawn di atas budget ditunda, bandit tidak digabung
+ *   8  - peluru musuh jauh dites terhadap batu sebelum bonus meleset
+ *   9  - arah flow field tidak memotong sudut batu
+ *   10 - level-of-detail peluru musuh (tanpa cull)
+ */
+public class ReplayRecorder {
+
+    // ==================== KONSTANTA ====================
+    public static final int MAGIC = 0x544D4452;             // "TMDR"
+    public static final int FORMAT_VERSION = 10;            // Lihat riwayat versi di atas
+    public static final int MIN_PLAYABLE_VERSION = 10;      // Versi lebih lama tidak bisa diputar ulang
+
+    // ==================== ATRIBUT ====================
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+    private final DataOutputStream out = new DataOutputStream(buffer);
+    private final ByteArrayOutputStream frame = new ByteArrayOutputStream(64);
+    private final DataOutputStream frameOut = new DataOutputStream(frame);
+    private int frameInputs = 0;
+    private long idleTicks = 0;
+    private long tickCount = 0;
+    private boolean finished = false;
+
+    /**
+     * Constructor - Tulis header rekaman untuk arena default
+     */
+    public ReplayRecorder(long seed, String username) {
+        this(seed, username, GameSimulation.SCREEN_WIDTH, GameSimulation.SCREEN_HEIGHT);
+    }
+
+    /**
+     * Constructor - Tulis header rekaman beserta ukuran arena sesi
+     */
+    public ReplayRecorder(long seed, String username, int worldWidth, int worldHeight) {
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(seed);
+            out.writeUTF(username);
+            out.writeInt(worldWidth);
+            out.writeInt(worldHeight);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);     // ByteArrayOutputStream tidak pernah gagal
+        }
+    }
+
+    /**
+     * Catat satu input pada tick yang sedang berjalan
+     */
+    synchronized void record(byte type, int a, int b) {
+        if (finished) return;
+        try {
+            frameOut.writeByte(type);
+            writeVarLong(frameOut, zigzag(a));
+            writeVarLong(frameOut, zigzag(b));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        frameInputs++;
+    }
+
+    /**
+     * Tutup tick yang sedang berjalan
+     */
+    synchronized void endTick() {
+        if (finished) return;
+        tickCount++;
+        if (frameInputs == 0) {
+            idleTicks++;
+            return;
+        }
+        try {
+            writeVarLong(out, idleTicks);
+            writeVarLong(out, frameInputs);
+            frame.writeTo(out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        frame.reset();
+        frameInputs = 0;
+        idleTicks = 0;
+    }
+
+    /**
+     * Akhiri rekaman (tick kosong tersisa + penanda akhir)
+     */
+    public synchronized void finish() {
+        if (finished) return;
+        try {
+            writeVarLong(out, idleTicks);
+            writeVarLong(out, 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        finished = true;
+    }
+
+    /** Jumlah tick yang sudah direkam */
+    public synchronized long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Tulis rekaman ke stream (memanggil finish jika belum)
+     */
+    public synchronized void writeTo(OutputStream target) throws IOException {
+        finish();
+        buffer.writeTo(target);
+    }
+
+    /**
+     * Tulis rekaman ke file, membuat folder induk jika perlu
+     */
+    public void writeTo(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (OutputStream target = Files.newOutputStream(file)) {
+            writeTo(target);
+        }
+    }
+
+    // ==================== VARINT ====================
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
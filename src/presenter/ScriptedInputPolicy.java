@@ -0,0 +1,86 @@
+package presenter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ScriptedInputPolicy - Input dari file skrip teks
+ * Format per baris (tick relatif terhadap awal sesi, '#' untuk komentar):
+ *   <tick> move <dx> <dy>
+ *   <tick> shoot <x> <y>
+ * Skrip diulang dengan periode (tick terakhir + 1) agar bisa dipakai untuk soak test panjang.
+ */
+public class ScriptedInputPolicy implements InputPolicy {
+
+    // ==================== ATRIBUT ====================
+    // Input terurut berdasarkan tick, disimpan sebagai array paralel
+    private final long[] ticks;
+    private final byte[] types;
+    private final int[] argA;
+    private final int[] argB;
+    private final long period;
+    private int cursor = 0;
+
+    /**
+     * Constructor - Baca dan validasi file skrip
+     */
+    public ScriptedInputPolicy(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file);
+        long[] t = new long[lines.size()];
+        byte[] ty = new byte[lines.size()];
+        int[] a = new int[lines.size()];
+        int[] b = new int[lines.size()];
+        int count = 0;
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] parts = line.split("\\s+");
+            try {
+                if (parts.length != 4) throw new IllegalArgumentException("expected 4 fields");
+                t[count] = Long.parseLong(parts[0]);
+                ty[count] = switch (parts[1]) {
+                    case "move" -> GameSimulation.INPUT_MOVE;
+                    case "shoot" -> GameSimulation.INPUT_SHOT;
+                    default -> throw new IllegalArgumentException("unknown action '" + parts[1] + "'");
+                };
+                a[count] = Integer.parseInt(parts[2]);
+                b[count] = Integer.parseInt(parts[3]);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(file + ":" + (i + 1) + ": " + e.getMessage(), e);
+            }
+            if (t[count] < 0 || (count > 0 && t[count] < t[count - 1])) {
+                throw new IOException(file + ":" + (i + 1) + ": ticks must be ascending and >= 0");
+            }
+            count++;
+        }
+
+        this.ticks = Arrays.copyOf(t, count);
+        this.types = Arrays.copyOf(ty, count);
+        this.argA = Arrays.copyOf(a, count);
+        this.argB = Arrays.copyOf(b, count);
+        this.period = (count == 0) ? 1 : ticks[count - 1] + 1;
+    }
+
+    @Override
+    public void beforeTick(GameSimulation sim, long tick) {
+        if (ticks.length == 0) return;
+
+        long local = tick % period;
+        if (local == 0) cursor = 0;
+        while (cursor < ticks.length && ticks[cursor] < local) cursor++;   // Mulai di tengah skrip
+
+        while (cursor < ticks.length && ticks[cursor] == local) {
+            if (types[cursor] == GameSimulation.INPUT_MOVE) {
+                sim.queueMove(argA[cursor], argB[cursor]);
+            } else {
+                sim.queueShot(argA[cursor], argB[cursor]);
+            }
+            cursor++;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package presenter;
+
+import util.TickScheduler;
+
+/**
+ * WaveDirector - Mengatur tingkat kesulitan lewat gelombang (wave) bandit
+ * Setiap WAVE_DURATION wave naik: jeda spawn makin pendek, satu spawn bisa
+ * berisi beberapa bandit, dan mulai wave tertentu sebagian bandit lebih kuat.
+ * Wave 1 sama dengan aturan lama (1 bandit per 3 detik).
+ *
+ * Jumlah bandit aktif dibatasi banditBudget. Budget diatur dari luar berdasarkan
+ * waktu frame (lihat FrameBudget) melalui input yang direkam di replay, sehingga
+ * simulasi tetap deterministik. Bandit yang tidak muat di budget tidak dibuang,
+ * melainkan ditunda dan ikut grup spawn berikutnya begitu ada tempat. Bandit
+ * yang sudah ada tidak pernah digabung atau dihapus, jadi setiap bandit tetap
+ * bernilai satu kill penuh. Jika budget turun di bawah jumlah bandit aktif,
+ * spawn berhenti sampai jumlahnya turun sendiri.
+ */
+class WaveDirector {
+
+    // ==================== KONSTANTA ====================
+    static final long WAVE_DURATION_TICKS = TickScheduler.msToTicks(30_000);
+    static final int MAX_BANDIT_BUDGET = 96;                // Batas bandit aktif di mesin cepat
+    static final int MIN_BANDIT_BUDGET = 8;                 // Batas bawah walau frame lambat
+
+    private static final int FIRST_SPAWN_INTERVAL = 3000;   // Jeda spawn wave 1 (ms)
+    private static final int SPAWN_INTERVAL_STEP = 250;     // Jeda berkurang per wave (ms)
+    private static final int MIN_SPAWN_INTERVAL = 1000;     // Jeda spawn tercepat (ms)
+    private static final int WAVES_PER_EXTRA_BANDIT = 2;    // +1 bandit per spawn setiap 2 wave
+    private static final int TOUGH_FROM_WAVE = 4;           // Bandit kuat mulai wave ini
+    private static final int TOUGH_EVERY = 3;               // Satu dari tiga bandit dalam grup
+    private static final int TOUGH_HEALTH = 2;
+
+    // ==================== ATRIBUT ====================
+    private int banditBudget = MAX_BANDIT_BUDGET;
+    private int deferred = 0;                               // Bandit tertunda karena budget penuh
+
+    // ==================== RENCANA SPAWN ====================
+
+    /** Wave untuk tick tertentu, dimulai dari 1 */
+    int waveAt(long tick) {
+        return 1 + (int) Math.min(Integer.MAX_VALUE - 1, tick / WAVE_DURATION_TICKS);
+    }
+
+    /** Jeda sampai spawn berikutnya di wave tertentu */
+    long spawnIntervalTicks(int wave) {
+        long ms = Math.max(MIN_SPAWN_INTERVAL, FIRST_SPAWN_INTERVAL - (long) (wave - 1) * SPAWN_INTERVAL_STEP);
+        return TickScheduler.msToTicks(ms);
+    }
+
+    /**
+     * Jumlah bandit untuk satu spawn: grup wave ini ditambah bandit tertunda,
+     * dipotong agar tidak melebihi budget. Sisa yang terpotong ditunda ke spawn
+     * berikutnya, paling banyak satu grup agar spawn susulan tidak menumpuk.
+     * Dipanggil tepat sekali per spawn.
+     */
+    int groupSize(int wave, int activeBandits) {
+        int group = 1 + (wave - 1) / WAVES_PER_EXTRA_BANDIT;
+        int planned = group + deferred;
+        int size = Math.max(0, Math.min(planned, banditBudget - activeBandits));
+        deferred = Math.min(group, planned - size);
+        return size;
+    }
+
+    /** HP bandit ke-index dalam satu grup spawn */
+    int healthFor(int wave, int index) {
+        boolean tough = wave >= TOUGH_FROM_WAVE && index % TOUGH_EVERY == TOUGH_EVERY - 1;
+        return tough ? TOUGH_HEALTH : 1;
+    }
+
+    // ==================== BUDGET ====================
+
+    int getBanditBudget() { return banditBudget; }
+    int getDeferred() { return deferred; }
+
+    /**
+     * Ubah budget bandit aktif (dijepit ke [MIN_BANDIT_BUDGET, MAX_BANDIT_BUDGET])
+     */
+    void setBanditBudget(int budget) {
+        banditBudget = Math.max(MIN_BANDIT_BUDGET, Math.min(MAX_BANDIT_BUDGET, budget));
+    }
+}
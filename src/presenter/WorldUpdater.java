@@ -0,0 +1,496 @@
+package presenter;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import ecs.Archetype;
+import ecs.MovementSystem;
+import model.*;
+import util.FlowField;
+import util.Metrics;
+import util.RockMap;
+import util.SpatialGrid;
+import util.SweptCollision;
+
+/**
+ * WorldUpdater - Tahap update simulasi per tick (sistem-sistem ECS)
+ * Setiap tahap terdiri dari dua bagian:
+ * 1. Bagian paralel (ForkJoinPool) yang hanya menulis ke baris miliknya sendiri
+ *    dan ke array hasil per baris: integrasi posisi, cek keluar layar/batu,
+ *    index sel grid, dan kandidat tabrakan.
+ * 2. Merge berurutan berdasarkan baris yang menerapkan damage, kill, skor,
+ *    dan destroy, sehingga hasilnya sama persis dengan versi single-thread.
+ * Tabrakan proyektil memakai tes kontinu (SweptCollision) sepanjang gerakan
+ * satu tick: target yang tersentuh paling awal yang menang, jadi peluru
+ * cepat tidak menembus bandit, batu, atau player.
+ * Level-of-detail: bandit di luar viewport (+ LOD_NEAR_MARGIN) hanya diupdate
+ * setiap LOD_FAR_INTERVAL tick, dan yang lebih jauh dari satu layar lagi setiap
+ * LOD_DISTANT_INTERVAL tick, dengan langkah dikali interval agar kecepatannya
+ * tetap. Giliran update dibagi per bucket (index handle entitas) secara
+ * round-robin sehingga beban tersebar rata antar tick. Peluru musuh memakai
+ * aturan LOD yang sama: di luar zona dekat peluru bergerak sejauh interval x
+ * kecepatan pada tick gilirannya, dan tes batu tetap persis karena memakai
+ * tes kontinu sepanjang langkah itu. Peluru baru bisa mengenai player setelah
+ * masuk zona dekat (diupdate setiap tick), dan bonus meleset hanya diberikan
+ * saat peluru benar-benar keluar arena. Di arena seukuran layar semua entitas
+ * selalu berada di zona dekat.
+ * Entitas yang di-destroy baru dibuang saat World.flush() di akhir tick,
+ * dengan urutan baris yang tetap.
+ * Di bawah PARALLEL_THRESHOLD entitas semuanya dijalankan di thread pemanggil.
+ */
+class WorldUpdater {
+
+    // ==================== KONSTANTA ====================
+    static final int PARALLEL_THRESHOLD = 2048;             // Total entitas minimal untuk fork/join
+    private static final int CHUNK_SIZE = 512;              // Entitas per sub-task
+    private static final int GRID_CELL_SIZE = 64;
+
+    private static final int PLAYER_DAMAGE = 10;            // Damage per tembakan musuh
+    private static final int BULLET_DAMAGE = 1;             // Damage peluru player ke bandit
+    private static final int AMMO_REWARD_ON_MISS = 1;       // Ammo bonus jika bandit meleset
+    private static final int OFFSCREEN_MARGIN = 50;
+
+    // Level-of-detail (interval harus pangkat dua untuk bucket round-robin)
+    private static final int LOD_NEAR_MARGIN = 100;         // Zona dekat = viewport + margin (= jendela flow field)
+    private static final int LOD_FAR_INTERVAL = 4;          // Update bandit di luar zona dekat
+    private static final int LOD_DISTANT_INTERVAL = 8;      // Update bandit > 1 layar di luar viewport
+
+    // Flag hasil tahap paralel
+    private static final byte FLAG_HIT_ROCK = 1;
+    private static final byte FLAG_OFFSCREEN = 2;
+    private static final byte FLAG_HIT_PLAYER = 4;
+
+    // ==================== REFERENSI DUNIA ====================
+    private final GameWorld world;
+    private final Archetype bullets;
+    private final Archetype enemyBullets;
+    private final Archetype bandits;
+    private final RockMap rockMap;
+    private final FlowField flowField;
+    private final int worldWidth;
+    private final int worldHeight;
+
+    private final ForkJoinPool pool = ForkJoinPool.commonPool();
+    private final SpatialGrid banditGrid;
+
+    // ==================== SCRATCH (dipakai ulang antar tick) ====================
+    private byte[] bulletFlags = new byte[64];
+    private double[] bulletRockTimes = new double[64];   // Waktu tabrakan batu per peluru (NO_HIT jika tidak)
+    private byte[] enemyFlags = new byte[64];
+    private int[] banditCells = new int[64];
+    private int[] bulletTargets = new int[64];
+    private boolean parallel;
+    private long tick = 0;
+
+    // Zona LOD tick ini: [x0, x1) x [y0, y1) dalam koordinat dunia
+    private int nearX0, nearY0, nearX1, nearY1;
+    private int distantX0, distantY0, distantX1, distantY1;
+
+    /**
+     * Body untuk satu rentang index [from, to)
+     */
+    @FunctionalInterface
+    private interface RangeBody {
+        void run(int from, int to);
+    }
+
+    WorldUpdater(GameWorld world, RockMap rockMap,
+                 FlowField flowField, int worldWidth, int worldHeight) {
+        this.world = world;
+        this.bullets = world.getBullets();
+        this.enemyBullets = world.getEnemyBullets();
+        this.bandits = world.getBandits();
+        this.rockMap = rockMap;
+        this.flowField = flowField;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.banditGrid = new SpatialGrid(worldWidth, worldHeight, GRID_CELL_SIZE);
+    }
+
+    /**
+     * Jalankan satu tick update untuk peluru, peluru musuh, dan bandit
+     * @return jumlah bandit yang terbunuh pada tick ini
+     */
+    int update(PlayerModel player, PlayerStatsModel stats) {
+        parallel = bullets.getCount() + enemyBullets.getCount() + bandits.getCount() >= PARALLEL_THRESHOLD;
+        tick++;
+        updateLodZones(player);
+
+        updateBullets(stats);
+        updateEnemyBullets(player);
+        updateBandits(player);
+
+        long collisionStart = System.nanoTime();
+        int kills = resolveBulletHits();
+        Metrics.COLLISION.record(System.nanoTime() - collisionStart);
+
+        world.getWorld().flush();
+        return kills;
+    }
+
+    // ==================== PELURU PLAYER ====================
+
+    /**
+     * Gerakkan peluru player dan catat waktu tabrakan batu sepanjang gerakannya
+     * Peluru yang keluar layar langsung dibuang; peluru yang menabrak batu baru
+     * dibuang di resolveBulletHits, karena bisa saja mengenai bandit lebih dulu
+     */
+    private void updateBullets(PlayerStatsModel stats) {
+        int n = bullets.getCount();
+        bulletFlags = ensure(bulletFlags, n);
+        bulletRockTimes = ensure(bulletRockTimes, n);
+        byte[] flags = bulletFlags;
+        double[] rockTimes = bulletRockTimes;
+        double[] xs = bullets.getXs();
+        double[] ys = bullets.getYs();
+        double[] vxs = bullets.getVelocityXs();
+        double[] vys = bullets.getVelocityYs();
+        int[] sizes = bullets.getColliderSizes();
+
+        forRange(n, (from, to) -> {
+            MovementSystem.integrate(bullets, from, to);
+            for (int i = from; i < to; i++) {
+                double vx = vxs[i];
+                double vy = vys[i];
+                double rockTime = rockMap.timeOfImpact(xs[i] - vx, ys[i] - vy, vx, vy, sizes[i]);
+                rockTimes[i] = rockTime;
+
+                byte f = 0;
+                if (rockTime != SweptCollision.NO_HIT) f |= FLAG_HIT_ROCK;
+                if (isOffScreen((int) xs[i], (int) ys[i])) f |= FLAG_OFFSCREEN;
+                flags[i] = f;
+            }
+        });
+
+        // Merge: peluru yang hanya keluar layar dihitung missed lalu dibuang
+        for (int i = 0; i < n; i++) {
+            if (flags[i] == FLAG_OFFSCREEN) {
+                stats.incrementBulletsMissed();
+                bullets.destroyAt(i);
+            }
+        }
+    }
+
+    // ==================== PELURU MUSUH ====================
+
+    /**
+     * Gerakkan peluru musuh; beri damage jika kena player,
+     * ammo bonus jika keluar layar, destroy jika menabrak batu
+     * Peluru di luar zona dekat hanya bergerak pada tick giliran bucket-nya,
+     * dengan langkah sebesar interval LOD-nya
+     */
+    private void updateEnemyBullets(PlayerModel player) {
+        int n = enemyBullets.getCount();
+        enemyFlags = ensure(enemyFlags, n);
+        byte[] flags = enemyFlags;
+        double[] xs = enemyBullets.getXs();
+        double[] ys = enemyBullets.getYs();
+        double[] vxs = enemyBullets.getVelocityXs();
+        double[] vys = enemyBullets.getVelocityYs();
+        int[] sizes = enemyBullets.getColliderSizes();
+        int[] entities = enemyBullets.getEntities();
+        int px = player.getX();
+        int py = player.getY();
+        int ps = player.getBounds().width;
+
+        forRange(n, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int s = sizes[i];
+                int interval = lodInterval((int) xs[i], (int) ys[i], s);
+                if (((tick + entities[i]) & (interval - 1)) != 0) {
+                    flags[i] = 0;
+                    continue;
+                }
+
+                double x0 = xs[i];
+                double y0 = ys[i];
+                double vx = vxs[i] * interval;
+                double vy = vys[i] * interval;
+                xs[i] = x0 + vx;
+                ys[i] = y0 + vy;
+
+                double playerTime = SweptCollision.timeOfImpact(x0, y0, vx, vy, s, px, py, ps, ps);
+                double rockTime = rockMap.timeOfImpact(x0, y0, vx, vy, s);
+
+                // Yang tersentuh lebih dulu menang; seri dimenangkan player
+                if (playerTime != SweptCollision.NO_HIT && playerTime <= rockTime) {
+                    flags[i] = FLAG_HIT_PLAYER;
+                } else if (rockTime != SweptCollision.NO_HIT) {
+                    flags[i] = FLAG_HIT_ROCK;
+                } else if (isOffScreen((int) xs[i], (int) ys[i])) {
+                    flags[i] = FLAG_OFFSCREEN;
+                } else {
+                    flags[i] = 0;
+                }
+            }
+        });
+
+        for (int i = 0; i < n; i++) {
+            switch (flags[i]) {
+                case FLAG_HIT_PLAYER -> player.takeDamage(PLAYER_DAMAGE);
+                case FLAG_OFFSCREEN -> player.addAmmo(AMMO_REWARD_ON_MISS);
+                case FLAG_HIT_ROCK -> { }
+                default -> { continue; }
+            }
+            enemyBullets.destroyAt(i);
+        }
+    }
+
+    // ==================== BANDIT ====================
+
+    /**
+     * Gerakkan bandit mengikuti flow field dan hitung sel grid masing-masing
+     * Flow field diperbarui dulu (sekali, sebelum fork) lalu hanya dibaca.
+     * Bandit di zona jauh hanya bergerak pada tick giliran bucket-nya,
+     * dengan langkah sebesar interval LOD-nya
+     */
+    private void updateBandits(PlayerModel player) {
+        int n = bandits.getCount();
+        banditCells = ensure(banditCells, n);
+        int[] cells = banditCells;
+        double[] xs = bandits.getXs();
+        double[] ys = bandits.getYs();
+        int[] sizes = bandits.getColliderSizes();
+        int[] entities = bandits.getEntities();
+
+        // Target flow field = titik tengah player; sampel arah = titik tengah tiap bandit
+        int playerHalf = player.getBounds().width / 2;
+        flowField.update(player.getX() + playerHalf, player.getY() + playerHalf);
+        int targetX = player.getX();
+        int targetY = player.getY();
+
+        forRange(n, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (!bandits.isAliveAt(i)) {
+                    cells[i] = -1;
+                    continue;
+                }
+
+                int interval = lodInterval((int) xs[i], (int) ys[i], sizes[i]);
+                if (((tick + entities[i]) & (interval - 1)) == 0) {
+                    double step = GameWorld.BANDIT_SPEED * interval;
+
+                    // Titik tengah dihitung dari posisi pixel (dibulatkan ke bawah)
+                    int half = sizes[i] / 2;
+                    double cx = (int) xs[i] + half;
+                    double cy = (int) ys[i] + half;
+                    if (flowField.hasDirection(cx, cy)) {
+                        xs[i] += flowField.getDirX(cx, cy) * step;
+                        ys[i] += flowField.getDirY(cx, cy) * step;
+                    } else {
+                        steerToward(xs, ys, i, targetX, targetY, step);
+                    }
+                }
+                cells[i] = banditGrid.cellOf((int) xs[i], (int) ys[i]);
+            }
+        });
+
+        banditGrid.build(cells, n);
+    }
+
+    /**
+     * Gerak lurus menuju target sejauh step (di luar jangkauan flow field)
+     * Langkah LOD yang besar tidak melewati target
+     */
+    private static void steerToward(double[] xs, double[] ys, int i,
+                                    double targetX, double targetY, double step) {
+        double dx = targetX - xs[i];
+        double dy = targetY - ys[i];
+        double distance = Math.sqrt(dx * dx + dy * dy);
+        if (distance == 0) return;
+
+        double move = Math.min(step, distance);
+        xs[i] += (dx / distance) * move;
+        ys[i] += (dy / distance) * move;
+    }
+
+    // ==================== LEVEL OF DETAIL ====================
+
+    /**
+     * Hitung zona dekat dan zona jauh dari viewport (seukuran layar,
+     * berpusat di player, dijepit ke arena) untuk tick ini
+     */
+    private void updateLodZones(PlayerModel player) {
+        int half = player.getBounds().width / 2;
+        int viewX = clamp(player.getX() + half - GameSimulation.SCREEN_WIDTH / 2,
+            0, worldWidth - GameSimulation.SCREEN_WIDTH);
+        int viewY = clamp(player.getY() + half - GameSimulation.SCREEN_HEIGHT / 2,
+            0, worldHeight - GameSimulation.SCREEN_HEIGHT);
+        int viewX1 = viewX + GameSimulation.SCREEN_WIDTH;
+        int viewY1 = viewY + GameSimulation.SCREEN_HEIGHT;
+
+        nearX0 = viewX - LOD_NEAR_MARGIN;
+        nearY0 = viewY - LOD_NEAR_MARGIN;
+        nearX1 = viewX1 + LOD_NEAR_MARGIN;
+        nearY1 = viewY1 + LOD_NEAR_MARGIN;
+        distantX0 = viewX - GameSimulation.SCREEN_WIDTH;
+        distantY0 = viewY - GameSimulation.SCREEN_HEIGHT;
+        distantX1 = viewX1 + GameSimulation.SCREEN_WIDTH;
+        distantY1 = viewY1 + GameSimulation.SCREEN_HEIGHT;
+    }
+
+    /**
+     * Interval update (tick) untuk entitas di posisi tertentu
+     */
+    private int lodInterval(int x, int y, int size) {
+        if (inZone(x, y, size, nearX0, nearY0, nearX1, nearY1)) return 1;
+        if (inZone(x, y, size, distantX0, distantY0, distantX1, distantY1)) return LOD_FAR_INTERVAL;
+        return LOD_DISTANT_INTERVAL;
+    }
+
+    /** Kotak entitas bersentuhan dengan zona [x0, x1) x [y0, y1) */
+    private static boolean inZone(int x, int y, int size, int x0, int y0, int x1, int y1) {
+        return x < x1 && x0 < x + size && y < y1 && y0 < y + size;
+    }
+
+    // ==================== TABRAKAN PELURU vs BANDIT ====================
+
+    /**
+     * Cari bandit yang pertama kali tersentuh setiap peluru secara paralel,
+     * lalu terapkan damage secara berurutan berdasarkan baris peluru
+     * Bandit hanya terkena jika tersentuh sebelum batu; peluru yang tidak
+     * mengenai bandit tetapi menabrak batu dibuang di sini
+     * @return jumlah bandit yang terbunuh
+     */
+    private int resolveBulletHits() {
+        int n = bullets.getCount();
+        bulletTargets = ensure(bulletTargets, n);
+        int[] targets = bulletTargets;
+        byte[] flags = bulletFlags;
+
+        forRange(n, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                targets[i] = bullets.isAliveAt(i) ? findBandit(i, false) : -1;
+            }
+        });
+
+        int[] health = bandits.getHealths();
+        int kills = 0;
+        for (int i = 0; i < n; i++) {
+            int target = targets[i];
+
+            // Target sudah dibunuh peluru sebelumnya: cari ulang di antara yang masih hidup
+            if (target >= 0 && !bandits.isAliveAt(target)) {
+                target = findBandit(i, true);
+            }
+            if (target < 0) {
+                if ((flags[i] & FLAG_HIT_ROCK) != 0) {
+                    bullets.destroyAt(i);
+                }
+                continue;
+            }
+
+            bullets.destroyAt(i);
+            health[target] -= BULLET_DAMAGE;
+            if (health[target] <= 0) {
+                bandits.destroyAt(target);
+                kills++;
+            }
+        }
+        return kills;
+    }
+
+    /**
+     * Query grid bandit sepanjang gerakan satu peluru pada tick ini
+     * @param bullet Baris peluru
+     * @param aliveOnly true untuk mengecek status hidup terbaru (dipakai saat merge)
+     * @return baris bandit yang tersentuh paling awal sebelum batu
+     *         (seri: baris terkecil), atau -1
+     */
+    private int findBandit(int bullet, boolean aliveOnly) {
+        double vx = bullets.getVelocityXs()[bullet];
+        double vy = bullets.getVelocityYs()[bullet];
+        double x0 = bullets.getXs()[bullet] - vx;
+        double y0 = bullets.getYs()[bullet] - vy;
+        int bs = bullets.getColliderSizes()[bullet];
+        double[] xs = bandits.getXs();
+        double[] ys = bandits.getYs();
+        int[] sizes = bandits.getColliderSizes();
+        int reach = GRID_CELL_SIZE;     // Bandit disimpan di sel pojok kiri atas, ukurannya < 1 sel
+
+        // Batu yang tersentuh lebih dulu (atau bersamaan) menghalangi bandit di belakangnya
+        double bestTime = bulletRockTimes[bullet];
+        int best = -1;
+        int c0 = banditGrid.colOf((int) Math.floor(Math.min(x0, x0 + vx)) - reach);
+        int c1 = banditGrid.colOf((int) Math.ceil(Math.max(x0, x0 + vx)) + bs);
+        int r0 = banditGrid.rowOf((int) Math.floor(Math.min(y0, y0 + vy)) - reach);
+        int r1 = banditGrid.rowOf((int) Math.ceil(Math.max(y0, y0 + vy)) + bs);
+        for (int row = r0; row <= r1; row++) {
+            for (int col = c0; col <= c1; col++) {
+                int end = banditGrid.end(col, row);
+                for (int k = banditGrid.start(col, row); k < end; k++) {
+                    int index = banditGrid.item(k);
+                    if (aliveOnly && !bandits.isAliveAt(index)) continue;
+                    int size = sizes[index];
+                    double time = SweptCollision.timeOfImpact(x0, y0, vx, vy, bs,
+                        (int) xs[index], (int) ys[index], size, size);
+                    if (time < bestTime || (time == bestTime && time != SweptCollision.NO_HIT
+                            && best >= 0 && index < best)) {
+                        bestTime = time;
+                        best = index;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    // ==================== HELPER ====================
+
+    /**
+     * Jalankan body untuk [0, n) - paralel per CHUNK_SIZE jika di atas threshold
+     */
+    private void forRange(int n, RangeBody body) {
+        if (!parallel || n <= CHUNK_SIZE) {
+            body.run(0, n);
+        } else {
+            pool.invoke(new RangeTask(body, 0, n));
+        }
+    }
+
+    /**
+     * Sub-task fork/join yang membagi rentang index menjadi dua sampai <= CHUNK_SIZE
+     */
+    private static class RangeTask extends RecursiveAction {
+        private final RangeBody body;
+        private final int from;
+        private final int to;
+
+        RangeTask(RangeBody body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                body.run(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(body, from, mid), new RangeTask(body, mid, to));
+        }
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(value, max));
+    }
+
+    private boolean isOffScreen(int x, int y) {
+        return x < -OFFSCREEN_MARGIN || x > worldWidth + OFFSCREEN_MARGIN
+            || y < -OFFSCREEN_MARGIN || y > worldHeight + OFFSCREEN_MARGIN;
+    }
+
+    private static double[] ensure(double[] array, int n) {
+        return array.length >= n ? array : new double[Math.max(n, array.length * 2)];
+    }
+
+    private static byte[] ensure(byte[] array, int n) {
+        return array.length >= n ? array : new byte[Math.max(n, array.length * 2)];
+    }
+
+    private static int[] ensure(int[] array, int n) {
+        return array.length >= n ? array : new int[Math.max(n, array.length * 2)];
+    }
+}
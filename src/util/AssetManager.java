@@ -7,6 +7,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
 /**
  * Kelas AssetManager bertanggung jawab untuk memuat, menyimpan (cache),
@@ -18,6 +19,15 @@ public class AssetManager {
     // Key: Nama file (String), Value: Data gambar (BufferedImage).
     private static final Map<String, BufferedImage> imageCache = new HashMap<>();
     
+    // Seed tekstur pasir pada background default
+    private static final long BACKGROUND_SEED = 0x544D44L;
+    
+    // Ukuran background default (seukuran layar) dan parameter tekstur tanah
+    private static final int BACKGROUND_WIDTH = 800;
+    private static final int BACKGROUND_HEIGHT = 600;
+    private static final int SKY_HEIGHT = 200;                  // Langit hanya di bagian atas dunia
+    private static final int SAND_SPECKLES = 1000;              // Bintik pasir per luas background default
+    
     // Daftar kemungkinan jalur (path) lokasi aset. 
     // Ini membantu program menemukan folder 'assets' baik saat dijalankan dari IDE, Terminal, maupun setelah dikompilasi.
     private static final String[] ASSET_PATHS = {
@@ -37,9 +47,15 @@ public class AssetManager {
      * @return BufferedImage Objek gambar yang berhasil dimuat atau gambar default.
      */
     public static BufferedImage loadImage(String filename) {
+        GameEvents.AssetLoad event = new GameEvents.AssetLoad();
+        event.begin();
+        event.file = filename;
+        
         // Langkah 1: Periksa apakah gambar sudah ada di dalam cache (Memory)
-        if (imageCache.containsKey(filename)) {
-            return imageCache.get(filename);
+        BufferedImage cached = imageCache.get(filename);
+        if (cached != null) {
+            event.cacheHit = true;
+            return commitLoad(event, cached);
         }
         
         // Langkah 2: Jika tidak ada di cache, coba cari file di setiap jalur yang terdaftar di ASSET_PATHS
@@ -54,7 +70,7 @@ public class AssetManager {
                     // Simpan ke cache untuk penggunaan berikutnya
                     imageCache.put(filename, img);
                     System.out.println("✓ Berhasil memuat: " + fullPath);
-                    return img;
+                    return commitLoad(event, img);
                 } catch (IOException e) {
                     // Terjadi kesalahan saat membaca file (misal: file rusak)
                     System.err.println("✗ Gagal membaca: " + fullPath);
@@ -67,7 +83,19 @@ public class AssetManager {
         System.out.println("⚠ Menggunakan gambar default untuk: " + filename);
         BufferedImage defaultImg = createDefaultImage(filename);
         imageCache.put(filename, defaultImg);
-        return defaultImg;
+        event.placeholder = true;
+        return commitLoad(event, defaultImg);
+    }
+    
+    /**
+     * Isi ukuran gambar (perkiraan 4 byte per piksel) lalu commit event JFR.
+     */
+    private static BufferedImage commitLoad(GameEvents.AssetLoad event, BufferedImage img) {
+        if (img != null) {
+            event.bytes = (long) img.getWidth() * img.getHeight() * 4;
+        }
+        event.commit();
+        return img;
     }
     
     /**
@@ -91,35 +119,65 @@ public class AssetManager {
      * Membuat gambar latar belakang default (800x600) menggunakan procedural drawing.
      */
     private static BufferedImage createDefaultBackground() {
-        BufferedImage img = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        return paintGround(0, 0, BACKGROUND_WIDTH, BACKGROUND_HEIGHT, BACKGROUND_HEIGHT,
+            SAND_SPECKLES, new Random(BACKGROUND_SEED));
+    }
+    
+    /**
+     * Membuat satu tile latar belakang untuk arena yang lebih besar dari layar.
+     * Gradasi tanah dan langit dihitung dari koordinat dunia sehingga tile
+     * yang bersebelahan menyambung mulus. Tidak disimpan di imageCache;
+     * cache tile diatur sendiri oleh BackgroundTiles.
+     * @param worldX Posisi X tile di dunia
+     * @param worldY Posisi Y tile di dunia
+     * @param size Ukuran sisi tile (pixel)
+     * @param worldHeight Tinggi arena (rentang gradasi tanah)
+     */
+    public static BufferedImage createBackgroundTile(int worldX, int worldY, int size, int worldHeight) {
+        int speckles = (int) ((long) SAND_SPECKLES * size * size / (BACKGROUND_WIDTH * BACKGROUND_HEIGHT));
+        // Seed per posisi tile agar tekstur sama setiap kali tile dibuat ulang
+        long seed = BACKGROUND_SEED ^ (((long) worldX << 32) | (worldY & 0xFFFFFFFFL));
+        return paintGround(worldX, worldY, size, size, worldHeight, speckles, new Random(seed));
+    }
+    
+    /**
+     * Gambar tanah gurun, bintik pasir, dan langit untuk area dunia tertentu.
+     */
+    private static BufferedImage paintGround(int worldX, int worldY, int width, int height,
+                                             int worldHeight, int speckles, Random sand) {
+        BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
         Graphics2D g = img.createGraphics();
         
         // Mengaktifkan Antialiasing agar gambar lebih halus
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.translate(-worldX, -worldY);
         
         // Menggambar gradasi warna tanah/gurun (Coklat ke Tan)
         GradientPaint gradient = new GradientPaint(
             0, 0, new Color(139, 69, 19), 
-            0, 600, new Color(205, 133, 63)
+            0, worldHeight, new Color(205, 133, 63)
         );
         g.setPaint(gradient);
-        g.fillRect(0, 0, 800, 600);
+        g.fillRect(worldX, worldY, width, height);
         
         // Menambahkan tekstur bintik-bintik pasir secara acak
+        // Seed tetap agar background identik di setiap sesi (dan setiap replay)
         g.setColor(new Color(0, 0, 0, 20));
-        for (int i = 0; i < 1000; i++) {
-            int x = (int)(Math.random() * 800);
-            int y = (int)(Math.random() * 600);
+        for (int i = 0; i < speckles; i++) {
+            int x = worldX + sand.nextInt(width);
+            int y = worldY + sand.nextInt(height);
             g.fillOval(x, y, 2, 2);
         }
         
-        // Menggambar gradasi langit biru di bagian atas
-        GradientPaint skyGradient = new GradientPaint(
-            0, 0, new Color(135, 206, 235),
-            0, 200, new Color(255, 255, 255, 50)
-        );
-        g.setPaint(skyGradient);
-        g.fillRect(0, 0, 800, 200);
+        // Menggambar gradasi langit biru di bagian atas dunia
+        if (worldY < SKY_HEIGHT) {
+            GradientPaint skyGradient = new GradientPaint(
+                0, 0, new Color(135, 206, 235),
+                0, SKY_HEIGHT, new Color(255, 255, 255, 50)
+            );
+            g.setPaint(skyGradient);
+            g.fillRect(worldX, worldY, width, SKY_HEIGHT - worldY);
+        }
         
         g.dispose(); // Melepaskan resource grafis
         return img;
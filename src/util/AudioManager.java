@@ -39,6 +39,7 @@ public class AudioManager {
     public static void playMusic(String filename) {
         stopMusic(); // Hentikan musik yang sedang berjalan sebelum memutar yang baru.
         
+        GameEvents.Audio audioEvent = audioEvent("play-music", filename);
         try {
             Clip clip = loadSound(filename);
             if (clip != null) {
@@ -48,10 +49,13 @@ public class AudioManager {
                 // Mengatur agar musik diputar berulang kali tanpa henti.
                 clip.loop(Clip.LOOP_CONTINUOUSLY);
                 clip.start();
+                audioEvent.success = true;
                 System.out.println("♪ Sedang memutar musik: " + filename);
             }
         } catch (Exception e) {
             System.err.println("Gagal memutar musik: " + filename);
+        } finally {
+            audioEvent.commit();
         }
     }
     
@@ -70,9 +74,12 @@ public class AudioManager {
      * Memutar efek suara (SFX) satu kali (contoh: suara tembakan atau ledakan).
      */
     public static void playSoundEffect(String filename) {
+        long startNanos = System.nanoTime();
+        GameEvents.Audio audioEvent = audioEvent("play-sfx", filename);
         try {
             Clip clip = loadSound(filename);
             if (clip != null) {
+                audioEvent.success = true;
                 setVolume(clip, sfxVolume);
                 clip.setFramePosition(0); // Memastikan suara mulai dari awal (rewind).
                 clip.start();
@@ -87,13 +94,38 @@ public class AudioManager {
             }
         } catch (Exception e) {
             // Gagal memutar SFX diabaikan secara diam-diam agar tidak memenuhi log konsol.
+        } finally {
+            Metrics.recordSound(startNanos);
+            audioEvent.commit();
         }
     }
     
     /**
-     * Memuat file suara dan mengonversinya ke format PCM standar agar kompatibel dengan sistem.
+     * Memuat file suara, dicatat sebagai event JFR "load".
      */
     private static Clip loadSound(String filename) {
+        GameEvents.Audio audioEvent = audioEvent("load", filename);
+        Clip clip = decodeSound(filename);
+        audioEvent.success = clip != null;
+        audioEvent.commit();
+        return clip;
+    }
+    
+    /**
+     * Event JFR audio yang sudah dimulai (begin) untuk aksi dan file tertentu.
+     */
+    private static GameEvents.Audio audioEvent(String action, String filename) {
+        GameEvents.Audio audioEvent = new GameEvents.Audio();
+        audioEvent.begin();
+        audioEvent.action = action;
+        audioEvent.file = filename;
+        return audioEvent;
+    }
+    
+    /**
+     * Memuat file suara dan mengonversinya ke format PCM standar agar kompatibel dengan sistem.
+     */
+    private static Clip decodeSound(String filename) {
         try {
             File audioFile = findAudioFile(filename);
             
@@ -0,0 +1,124 @@
+package util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * BackgroundTiles - Latar belakang arena besar yang di-stream per tile
+ * Tile dibuat di thread background saat pertama kali mendekati viewport
+ * (termasuk satu cincin tile di sekelilingnya sebagai prefetch), lalu disimpan
+ * di cache LRU berukuran tetap. Selama tile belum siap, area-nya diisi warna
+ * pasir polos sehingga paint tidak pernah menunggu pembuatan tile.
+ * Biaya per frame hanya bergantung pada ukuran viewport, bukan ukuran arena.
+ */
+public class BackgroundTiles {
+
+    // ==================== KONSTANTA ====================
+    public static final int TILE_SIZE = 256;
+    private static final int PREFETCH_RING = 1;             // Tile ekstra di setiap sisi viewport
+    private static final int MAX_CACHED_TILES = 64;         // ~16 MB untuk tile 256x256 RGB
+    private static final Color PENDING_COLOR = new Color(172, 101, 41);
+
+    // Satu thread daemon untuk semua instance, tile dibuat berurutan
+    private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "background-tiles");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // ==================== ATRIBUT ====================
+    private final int worldWidth;
+    private final int worldHeight;
+    private final int cols;
+    private final int rows;
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+
+    // LRU: urutan akses, tile paling lama tidak dipakai dibuang lebih dulu
+    private final Map<Integer, BufferedImage> cache =
+        new LinkedHashMap<>(MAX_CACHED_TILES * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, BufferedImage> eldest) {
+                return size() > MAX_CACHED_TILES;
+            }
+        };
+
+    public BackgroundTiles(int worldWidth, int worldHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.cols = (worldWidth + TILE_SIZE - 1) / TILE_SIZE;
+        this.rows = (worldHeight + TILE_SIZE - 1) / TILE_SIZE;
+    }
+
+    /**
+     * Gambar tile yang terlihat di viewport (Graphics sudah di koordinat dunia)
+     * dan minta tile di sekitarnya dibuat lebih dulu
+     */
+    public void draw(Graphics2D g, int viewX, int viewY, int viewWidth, int viewHeight) {
+        int firstCol = Math.max(0, viewX / TILE_SIZE);
+        int firstRow = Math.max(0, viewY / TILE_SIZE);
+        int lastCol = Math.min(cols - 1, (viewX + viewWidth - 1) / TILE_SIZE);
+        int lastRow = Math.min(rows - 1, (viewY + viewHeight - 1) / TILE_SIZE);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                BufferedImage tile = get(col, row);
+                int x = col * TILE_SIZE;
+                int y = row * TILE_SIZE;
+                if (tile != null) {
+                    g.drawImage(tile, x, y, null);
+                } else {
+                    g.setColor(PENDING_COLOR);
+                    g.fillRect(x, y, Math.min(TILE_SIZE, worldWidth - x), Math.min(TILE_SIZE, worldHeight - y));
+                }
+            }
+        }
+
+        // Prefetch cincin di luar viewport
+        for (int row = firstRow - PREFETCH_RING; row <= lastRow + PREFETCH_RING; row++) {
+            for (int col = firstCol - PREFETCH_RING; col <= lastCol + PREFETCH_RING; col++) {
+                if (col >= 0 && row >= 0 && col < cols && row < rows) {
+                    get(col, row);
+                }
+            }
+        }
+    }
+
+    /**
+     * Jumlah tile yang sedang ada di cache
+     */
+    public int getCachedTileCount() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Ambil tile dari cache; jika belum ada, jadwalkan pembuatannya
+     * @return tile, atau null jika belum siap
+     */
+    private BufferedImage get(int col, int row) {
+        int key = row * cols + col;
+        BufferedImage tile;
+        synchronized (cache) {
+            tile = cache.get(key);
+        }
+        if (tile == null && pending.add(key)) {
+            LOADER.execute(() -> {
+                BufferedImage created = AssetManager.createBackgroundTile(
+                    col * TILE_SIZE, row * TILE_SIZE, TILE_SIZE, worldHeight);
+                synchronized (cache) {
+                    cache.put(key, created);
+                }
+                pending.remove(key);
+            });
+        }
+        return tile;
+    }
+}
@@ -8,7 +8,7 @@ import java.util.Random;
  */
 public class CowboyDialog {
     
-    private static final Random random = new Random();
+    private static Random random = new Random();   // Diganti per sesi lewat setSeed
     
     // Daftar frasa pertempuran koboi (7 frasa sesuai permintaan)
     private static final String[] COMBAT_PHRASES = {
@@ -21,19 +21,38 @@ public class CowboyDialog {
         "Your days of thievin' are over!"            // Hari-harimu mencuri sudah berakhir!
     };
     
+    // Semua waktu dihitung dalam tick simulasi (lihat TickScheduler) agar dialog
+    // ikut berhenti saat game di-pause
     private static String currentDialog = "";        // Teks dialog yang sedang aktif
-    private static long dialogStartTime = 0;         // Waktu kapan dialog mulai muncul
-    private static final long DIALOG_DURATION = 3000; // Durasi dialog tampil (3 detik)
+    private static volatile long currentTick = 0;    // Tick simulasi terakhir
+    private static long dialogStartTime = 0;         // Tick kapan dialog mulai muncul
+    private static final long DIALOG_DURATION = TickScheduler.msToTicks(3000); // Durasi dialog tampil (3 detik)
+    private static final long FADE_DURATION = TickScheduler.msToTicks(500);    // Durasi fade out
     
-    private static long lastDialogTime = 0;          // Waktu terakhir dialog dipicu
-    private static final long MIN_DIALOG_INTERVAL = 5000; // Jeda minimal antar dialog (5 detik) agar tidak mengganggu
+    private static long lastDialogTime = -TickScheduler.msToTicks(5000); // Tick terakhir dialog dipicu
+    private static final long MIN_DIALOG_INTERVAL = TickScheduler.msToTicks(5000); // Jeda minimal antar dialog (5 detik) agar tidak mengganggu
+    
+    /**
+     * Pakai seed sesi agar urutan frasa ikut terulang saat replay
+     */
+    public static void setSeed(long seed) {
+        random = new Random(seed);
+    }
+    
+    /**
+     * Sinkronkan jam dialog dengan tick simulasi
+     * Dipanggil sekali per tick oleh game loop
+     */
+    public static void advanceTo(long tick) {
+        currentTick = tick;
+    }
     
     /**
      * Memicu dialog secara acak.
      * Biasanya dipanggil saat pemain menembak.
      */
     public static void triggerDialog() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = currentTick;
         
         // Cek apakah jeda waktu minimal sejak dialog terakhir sudah terpenuhi
         if (currentTime - lastDialogTime < MIN_DIALOG_INTERVAL) {
@@ -54,7 +73,7 @@ public class CowboyDialog {
      * Digunakan untuk kejadian penting, misalnya saat berhasil membunuh bandit.
      */
     public static void triggerDialogForced() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = currentTick;
         
         // Tetap menghormati jeda minimal agar tidak terjadi tumpang tindih teks
         if (currentTime - lastDialogTime < MIN_DIALOG_INTERVAL) {
@@ -72,7 +91,7 @@ public class CowboyDialog {
      * Mengembalikan string kosong jika durasi dialog sudah habis.
      */
     public static String getCurrentDialog() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = currentTick;
         
         // Cek apakah dialog sudah melewati batas durasi tampil
         if (currentTime - dialogStartTime > DIALOG_DURATION) {
@@ -95,6 +114,8 @@ public class CowboyDialog {
     public static void clearDialog() {
         currentDialog = "";
         dialogStartTime = 0;
+        currentTick = 0;
+        lastDialogTime = -MIN_DIALOG_INTERVAL;
     }
     
     /**
@@ -107,14 +128,14 @@ public class CowboyDialog {
             return 0.0f;
         }
         
-        long currentTime = System.currentTimeMillis();
+        long currentTime = currentTick;
         long elapsed = currentTime - dialogStartTime;
         long remaining = DIALOG_DURATION - elapsed;
         
         // Mulai memudar (fade out) dalam 500 milidetik terakhir durasi tampil
-        if (remaining < 500) {
+        if (remaining < FADE_DURATION) {
             // Menghasilkan nilai yang mengecil dari 1.0 ke 0.0
-            return remaining / 500.0f;
+            return remaining / (float) FADE_DURATION;
         }
         
         return 1.0f; // Tetap solid jika waktu masih banyak
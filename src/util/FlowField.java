@@ -0,0 +1,272 @@
+package util;
+
+import java.util.Arrays;
+import java.util.List;
+
+import model.RockModel;
+
+/**
+ * FlowField - Medan arah berbasis grid untuk pergerakan bandit menuju player
+ * Jarak dari sel player dihitung sekali dengan Dijkstra (biaya 10 lurus, 14 diagonal),
+ * lalu setiap sel menyimpan arah ke tetangga dengan jarak terkecil.
+ * Perhitungan ulang hanya terjadi ketika player pindah sel, dan setiap bandit
+ * cukup membaca arah selnya dalam O(1), berapa pun jumlah bandit.
+ * Untuk arena besar pencarian dibatasi pada jendela berukuran tetap di sekitar
+ * target (dijepit ke dalam grid seperti kamera), sehingga biaya hitung ulang
+ * tidak tumbuh dengan luas arena; di luar jendela tidak ada arah dan bandit
+ * mengejar lurus.
+ */
+public class FlowField {
+
+    // ==================== KONSTANTA ====================
+    public static final int CELL_SIZE = 20;                 // Ukuran sel grid (pixel)
+    private static final int COST_STRAIGHT = 10;
+    private static final int COST_DIAGONAL = 14;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    // Offset 8 tetangga: 4 lurus lalu 4 diagonal
+    private static final int[] NEIGHBOR_DX = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] NEIGHBOR_DY = {0, 0, 1, -1, 1, -1, 1, -1};
+    private static final float INV_SQRT2 = (float) (1 / Math.sqrt(2));
+
+    // ==================== ATRIBUT ====================
+    private final int cols;
+    private final int rows;
+    private final boolean[] blocked;
+    private final int[] distance;
+    private final float[] dirX;
+    private final float[] dirY;
+    private final int windowCols;                           // Ukuran jendela pencarian (sel)
+    private final int windowRows;
+    private int targetCell = -1;
+
+    // Jendela perhitungan terakhir [c0..c1] x [r0..r1], dibersihkan sebelum hitung ulang
+    private int winC0, winR0, winC1 = -1, winR1 = -1;
+
+    // Binary heap (jarak << 32 | sel) yang dipakai ulang antar perhitungan
+    private long[] heap;
+    private int heapSize;
+
+    /**
+     * Constructor - Buat grid untuk area dengan ukuran tertentu (jendela = seluruh area)
+     */
+    public FlowField(int worldWidth, int worldHeight) {
+        this(worldWidth, worldHeight, worldWidth, worldHeight);
+    }
+
+    /**
+     * Constructor - Buat grid dengan jendela pencarian terbatas
+     * @param windowWidth Lebar area di sekitar target yang diberi arah (pixel)
+     * @param windowHeight Tinggi area di sekitar target yang diberi arah (pixel)
+     */
+    public FlowField(int worldWidth, int worldHeight, int windowWidth, int windowHeight) {
+        this.cols = (worldWidth + CELL_SIZE - 1) / CELL_SIZE;
+        this.rows = (worldHeight + CELL_SIZE - 1) / CELL_SIZE;
+        this.windowCols = Math.min(cols, (windowWidth + CELL_SIZE - 1) / CELL_SIZE);
+        this.windowRows = Math.min(rows, (windowHeight + CELL_SIZE - 1) / CELL_SIZE);
+        int cells = cols * rows;
+        this.blocked = new boolean[cells];
+        this.distance = new int[cells];
+        this.dirX = new float[cells];
+        this.dirY = new float[cells];
+        this.heap = new long[windowCols * windowRows * 2];
+        Arrays.fill(distance, UNREACHABLE);
+    }
+
+    /**
+     * Tandai sel yang tertutup batu
+     * Batu diperbesar setengah ukuran agen karena arah dibaca dari titik tengah agen
+     * @param agentSize Ukuran sprite agen (bandit)
+     */
+    public void setObstacles(List<RockModel> rocks, int agentSize) {
+        Arrays.fill(blocked, false);
+        int margin = agentSize / 2;
+
+        for (RockModel rock : rocks) {
+            int c0 = clampCol((rock.getX() - margin) / CELL_SIZE);
+            int r0 = clampRow((rock.getY() - margin) / CELL_SIZE);
+            int c1 = clampCol((rock.getX() + rock.getWidth() + margin - 1) / CELL_SIZE);
+            int r1 = clampRow((rock.getY() + rock.getHeight() + margin - 1) / CELL_SIZE);
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    blocked[r * cols + c] = true;
+                }
+            }
+        }
+        targetCell = -1;   // Paksa hitung ulang
+    }
+
+    /**
+     * Perbarui medan arah jika target pindah sel
+     * @return true jika medan dihitung ulang
+     */
+    public boolean update(int targetX, int targetY) {
+        int cell = cellAt(targetX, targetY);
+        if (cell == targetCell) return false;
+
+        targetCell = cell;
+        clearWindow();
+        int cx = cell % cols;
+        int cy = cell / cols;
+        winC0 = Math.max(0, Math.min(cx - windowCols / 2, cols - windowCols));
+        winR0 = Math.max(0, Math.min(cy - windowRows / 2, rows - windowRows));
+        winC1 = winC0 + windowCols - 1;
+        winR1 = winR0 + windowRows - 1;
+        computeDistances(cell);
+        computeDirections();
+        return true;
+    }
+
+    /**
+     * Arah X (unit) di posisi tertentu, 0 jika tidak ada jalur atau sudah di sel target
+     */
+    public float getDirX(double x, double y) {
+        return dirX[cellAt((int) x, (int) y)];
+    }
+
+    /**
+     * Arah Y (unit) di posisi tertentu, 0 jika tidak ada jalur atau sudah di sel target
+     */
+    public float getDirY(double x, double y) {
+        return dirY[cellAt((int) x, (int) y)];
+    }
+
+    /**
+     * Cek apakah posisi punya arah valid menuju target
+     */
+    public boolean hasDirection(double x, double y) {
+        int cell = cellAt((int) x, (int) y);
+        return dirX[cell] != 0 || dirY[cell] != 0;
+    }
+
+    // ==================== DIJKSTRA ====================
+
+    /**
+     * Kembalikan sel di jendela sebelumnya ke keadaan tanpa jarak dan arah
+     */
+    private void clearWindow() {
+        for (int r = winR0; r <= winR1; r++) {
+            int from = r * cols + winC0;
+            int to = r * cols + winC1 + 1;
+            Arrays.fill(distance, from, to, UNREACHABLE);
+            Arrays.fill(dirX, from, to, 0f);
+            Arrays.fill(dirY, from, to, 0f);
+        }
+    }
+
+    private void computeDistances(int source) {
+        heapSize = 0;
+
+        // Sel target tetap dijadikan sumber meskipun tertutup (player bisa menempel batu)
+        distance[source] = 0;
+        push(0, source);
+
+        while (heapSize > 0) {
+            long top = pop();
+            int dist = (int) (top >>> 32);
+            int cell = (int) top;
+            if (dist > distance[cell]) continue;    // Entry usang
+
+            int cx = cell % cols;
+            int cy = cell / cols;
+            for (int n = 0; n < 8; n++) {
+                int nx = cx + NEIGHBOR_DX[n];
+                int ny = cy + NEIGHBOR_DY[n];
+                if (nx < winC0 || ny < winR0 || nx > winC1 || ny > winR1) continue;
+
+                int next = ny * cols + nx;
+                if (blocked[next]) continue;
+                // Diagonal tidak boleh memotong sudut batu
+                if (n >= 4 && (blocked[cy * cols + nx] || blocked[ny * cols + cx])) continue;
+
+                int nd = dist + (n < 4 ? COST_STRAIGHT : COST_DIAGONAL);
+                if (nd < distance[next]) {
+                    distance[next] = nd;
+                    push(nd, next);
+                }
+            }
+        }
+    }
+
+    private void computeDirections() {
+        for (int cy = winR0; cy <= winR1; cy++) {
+            for (int cx = winC0; cx <= winC1; cx++) {
+                int cell = cy * cols + cx;
+                if (distance[cell] == UNREACHABLE || cell == targetCell) continue;
+
+                int best = distance[cell];
+                int bestN = -1;
+                for (int n = 0; n < 8; n++) {
+                    int nx = cx + NEIGHBOR_DX[n];
+                    int ny = cy + NEIGHBOR_DY[n];
+                    if (nx < 0 || ny < 0 || nx >= cols || ny >= rows) continue;
+
+                    // Aturan tetangga sama dengan computeDistances: tidak masuk batu
+                    // (kecuali sel target) dan diagonal tidak memotong sudut batu
+                    int next = ny * cols + nx;
+                    if (blocked[next] && next != targetCell) continue;
+                    if (n >= 4 && (blocked[cy * cols + nx] || blocked[ny * cols + cx])) continue;
+
+                    int d = distance[next];
+                    if (d < best) {
+                        best = d;
+                        bestN = n;
+                    }
+                }
+
+                if (bestN >= 0) {
+                    float scale = bestN < 4 ? 1f : INV_SQRT2;
+                    dirX[cell] = NEIGHBOR_DX[bestN] * scale;
+                    dirY[cell] = NEIGHBOR_DY[bestN] * scale;
+                }
+            }
+        }
+    }
+
+    // ==================== HEAP ====================
+
+    private void push(int dist, int cell) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        long entry = ((long) dist << 32) | cell;
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= entry) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = entry;
+    }
+
+    private long pop() {
+        long top = heap[0];
+        long last = heap[--heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) child++;
+            if (last <= heap[child]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return top;
+    }
+
+    // ==================== HELPER ====================
+
+    private int cellAt(int x, int y) {
+        return clampRow(y / CELL_SIZE) * cols + clampCol(x / CELL_SIZE);
+    }
+
+    private int clampCol(int c) {
+        return Math.max(0, Math.min(cols - 1, c));
+    }
+
+    private int clampRow(int r) {
+        return Math.max(0, Math.min(rows - 1, r));
+    }
+}
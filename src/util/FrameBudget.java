@@ -0,0 +1,69 @@
+package util;
+
+/**
+ * FrameBudget - Umpan balik waktu frame untuk membatasi jumlah entitas aktif
+ * Waktu tick + paint dihaluskan dengan rata-rata eksponensial (EWMA) lalu
+ * dibandingkan dengan jatah per frame. Setiap EVALUATE_EVERY frame batas
+ * entitas diturunkan tajam jika melewati jatah, dan dinaikkan perlahan jika
+ * jauh di bawahnya, sehingga batas tidak naik-turun setiap frame.
+ * Hanya dipakai dari satu thread (game loop).
+ */
+public class FrameBudget {
+
+    // ==================== KONSTANTA ====================
+    public static final long FRAME_NANOS = 1_000_000_000L / TickScheduler.TICKS_PER_SECOND;
+    private static final double TARGET_SHARE = 0.6;     // Jatah tick + paint dari satu frame
+    private static final double GROW_SHARE = 0.3;       // Di bawah ini batas boleh naik
+    private static final double SMOOTHING = 0.1;        // Bobot sampel baru di EWMA
+    private static final int EVALUATE_EVERY = 30;       // Frame antar evaluasi (~0.5 detik)
+    private static final double SHRINK_FACTOR = 0.75;
+    private static final int GROW_STEP = 4;
+
+    // ==================== ATRIBUT ====================
+    private final int minCap;
+    private final int maxCap;
+    private int cap;
+    private double averageNanos = 0;
+    private int frames = 0;
+
+    /**
+     * @param minCap Batas terendah (game tetap bisa dimainkan di mesin lambat)
+     * @param maxCap Batas tertinggi sekaligus nilai awal
+     */
+    public FrameBudget(int minCap, int maxCap) {
+        if (minCap <= 0 || minCap > maxCap) {
+            throw new IllegalArgumentException("Invalid cap range: " + minCap + ".." + maxCap);
+        }
+        this.minCap = minCap;
+        this.maxCap = maxCap;
+        this.cap = maxCap;
+    }
+
+    /**
+     * Catat waktu satu frame
+     * @param tickNanos Durasi tick simulasi terakhir
+     * @param paintNanos Durasi paint terakhir (0 jika belum ada)
+     * @return batas baru jika berubah, -1 jika tetap
+     */
+    public int onFrame(long tickNanos, long paintNanos) {
+        long sample = Math.max(0, tickNanos) + Math.max(0, paintNanos);
+        averageNanos = (frames == 0 && averageNanos == 0)
+            ? sample
+            : averageNanos + SMOOTHING * (sample - averageNanos);
+        if (++frames < EVALUATE_EVERY) return -1;
+        frames = 0;
+
+        int next = cap;
+        if (averageNanos > FRAME_NANOS * TARGET_SHARE) {
+            next = Math.max(minCap, (int) (cap * SHRINK_FACTOR));
+        } else if (averageNanos < FRAME_NANOS * GROW_SHARE) {
+            next = Math.min(maxCap, cap + GROW_STEP);
+        }
+        if (next == cap) return -1;
+        cap = next;
+        return cap;
+    }
+
+    public int getCap() { return cap; }
+    public double getAverageNanos() { return averageNanos; }
+}
@@ -0,0 +1,133 @@
+package util;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * GameEvents - Event Java Flight Recorder untuk game
+ * Pola pemakaian: buat event, begin(), kerjakan, isi field, commit().
+ * Jika tidak ada rekaman JFR aktif, commit() langsung kembali dan JIT
+ * menghapus alokasi event-nya, sehingga biayanya hampir nol.
+ * Rekaman bisa dimulai dari Main dengan --jfr[=file] atau -XX:StartFlightRecording.
+ */
+public final class GameEvents {
+
+    private GameEvents() { }
+
+    /**
+     * Satu tick simulasi (GameSimulation.tick)
+     */
+    @Name("tmd.Tick")
+    @Label("Game Tick")
+    @Category({"TMD", "Simulation"})
+    @Description("Satu langkah simulasi: input, event terjadwal, update dunia")
+    @StackTrace(false)
+    public static class Tick extends Event {
+        @Label("Tick")
+        public long tick;
+
+        @Label("Bandits")
+        public int bandits;
+
+        @Label("Bullets")
+        public int bullets;
+
+        @Label("Enemy Bullets")
+        public int enemyBullets;
+
+        @Label("Kills")
+        public int kills;
+    }
+
+    /**
+     * Satu frame GamePanel.paintComponent
+     */
+    @Name("tmd.Paint")
+    @Label("Game Paint")
+    @Category({"TMD", "Render"})
+    @Description("Render satu frame GamePanel")
+    @StackTrace(false)
+    public static class Paint extends Event {
+        @Label("Entities Drawn")
+        public int entities;
+
+        @Label("Draw Calls")
+        @Description("drawImage dari SpriteBatch")
+        public int drawCalls;
+
+        @Label("State Changes")
+        @Description("Pergantian tekstur di SpriteBatch")
+        public int stateChanges;
+
+        @Label("Width")
+        public int width;
+
+        @Label("Height")
+        public int height;
+    }
+
+    /**
+     * Memuat atau memutar file audio (AudioManager)
+     */
+    @Name("tmd.Audio")
+    @Label("Audio")
+    @Category({"TMD", "I/O"})
+    @Description("Load atau play file audio")
+    public static class Audio extends Event {
+        @Label("Action")
+        @Description("load, play-sfx, atau play-music")
+        public String action;
+
+        @Label("File")
+        public String file;
+
+        @Label("Success")
+        public boolean success;
+    }
+
+    /**
+     * Satu panggilan AssetManager.loadImage
+     */
+    @Name("tmd.AssetLoad")
+    @Label("Asset Load")
+    @Category({"TMD", "I/O"})
+    @Description("Memuat gambar dari cache, disk, atau placeholder")
+    public static class AssetLoad extends Event {
+        @Label("File")
+        public String file;
+
+        @Label("Cache Hit")
+        public boolean cacheHit;
+
+        @Label("Placeholder")
+        @Description("File tidak ditemukan, gambar default dibuat")
+        public boolean placeholder;
+
+        @Label("Image Size")
+        @DataAmount
+        public long bytes;
+    }
+
+    /**
+     * Satu query database (repository, transfer, maintenance)
+     */
+    @Name("tmd.DatabaseQuery")
+    @Label("Database Query")
+    @Category({"TMD", "I/O"})
+    @Description("Satu operasi SQLite termasuk membuka koneksi")
+    public static class DatabaseQuery extends Event {
+        @Label("Operation")
+        public String operation;
+
+        @Label("Rows")
+        public long rows;
+
+        @Label("Success")
+        public boolean success;
+    }
+}
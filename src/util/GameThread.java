@@ -10,7 +10,7 @@ import presenter.GamePresenter;
 public class GameThread extends Thread {
 
     // Flag untuk mengontrol apakah thread harus terus berjalan atau berhenti
-    private boolean running = true;
+    private volatile boolean running = true;
 
     // Referensi ke presenter untuk memicu pembaruan logika game
     private GamePresenter presenter;
@@ -54,4 +54,18 @@ public class GameThread extends Thread {
     public void stopGame() {
         running = false;
     }
+
+    /**
+     * Hentikan loop lalu tunggu iterasi terakhir selesai.
+     * Setelah method ini kembali, state game aman diubah dari thread pemanggil.
+     */
+    public void stopAndWait() {
+        stopGame();
+        if (Thread.currentThread() == this) return;
+        try {
+            join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
\ No newline at end of file
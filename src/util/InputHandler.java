@@ -1,52 +1,58 @@
 package util;
 
-import presenter.GamePresenter;
-
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 
 /**
  * Menangani input papan ketik (keyboard) untuk pergerakan pemain.
  * Kelas ini mendengarkan penekanan tombol panah (arrow keys) sesuai spesifikasi.
+ * Tombol hanya dicatat ke InputState; game loop membacanya sekali per tick.
  */
 public class InputHandler extends KeyAdapter {
 
-    private GamePresenter presenter;
-    
-    // Kecepatan gerak karakter setiap kali tombol ditekan (dalam piksel)
-    private static final int MOVE_SPEED = 10;
+    private final InputState inputState;
 
     /**
      * Konstruktor InputHandler.
-     * @param presenter Referensi ke GamePresenter untuk mengirim perintah gerak.
+     * @param inputState Tempat mencatat tombol yang sedang ditekan.
      */
-    public InputHandler(GamePresenter presenter) {
-        this.presenter = presenter;
+    public InputHandler(InputState inputState) {
+        this.inputState = inputState;
     }
 
     /**
      * Dipanggil secara otomatis oleh Java ketika sebuah tombol ditekan.
+     * Auto-repeat OS hanya menekan ulang bit yang sama, jadi tidak mempercepat gerak.
      */
     @Override
     public void keyPressed(KeyEvent e) {
-        // Mengidentifikasi tombol mana yang ditekan menggunakan KeyCode
-        switch (e.getKeyCode()) {
-            case KeyEvent.VK_UP:
-                // Bergerak ke atas: kurangi nilai Y (sumbu Y negatif di komputer adalah ke atas)
-                presenter.movePlayer(0, -MOVE_SPEED);
-                break;
-            case KeyEvent.VK_DOWN:
-                // Bergerak ke bawah: tambahkan nilai Y
-                presenter.movePlayer(0, MOVE_SPEED);
-                break;
-            case KeyEvent.VK_LEFT:
-                // Bergerak ke kiri: kurangi nilai X
-                presenter.movePlayer(-MOVE_SPEED, 0);
-                break;
-            case KeyEvent.VK_RIGHT:
-                // Bergerak ke kanan: tambahkan nilai X
-                presenter.movePlayer(MOVE_SPEED, 0);
-                break;
+        int key = directionOf(e.getKeyCode());
+        if (key != 0) {
+            inputState.press(key);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Dipanggil ketika tombol dilepas: player berhenti bergerak ke arah itu.
+     */
+    @Override
+    public void keyReleased(KeyEvent e) {
+        int key = directionOf(e.getKeyCode());
+        if (key != 0) {
+            inputState.release(key);
+        }
+    }
+
+    /**
+     * Mengubah KeyCode tombol panah menjadi bit arah di InputState (0 jika bukan tombol panah)
+     */
+    private static int directionOf(int keyCode) {
+        return switch (keyCode) {
+            case KeyEvent.VK_UP -> InputState.UP;          // Sumbu Y negatif di komputer adalah ke atas
+            case KeyEvent.VK_DOWN -> InputState.DOWN;
+            case KeyEvent.VK_LEFT -> InputState.LEFT;
+            case KeyEvent.VK_RIGHT -> InputState.RIGHT;
+            default -> 0;
+        };
+    }
+}
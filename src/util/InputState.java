@@ -0,0 +1,122 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * InputState - Jembatan input antara EDT (producer) dan game loop (consumer)
+ * - Arah gerak disimpan sebagai bitset tombol yang sedang ditekan; game loop
+ *   membacanya sekali per tick, jadi kecepatan gerak tidak bergantung pada
+ *   key-repeat OS dan dua tombol sekaligus menghasilkan gerak diagonal.
+ *   Tombol yang ditekan lalu dilepas di antara dua tick tetap dihitung sekali.
+ * - Tembakan mouse masuk ring buffer SPSC lock-free beserta timestamp
+ *   System.nanoTime(), lalu diambil game loop di awal tick berikutnya
+ *   sesuai urutan waktunya.
+ * Tepat satu thread producer dan satu thread consumer.
+ */
+public class InputState {
+
+    // ==================== KONSTANTA ====================
+    public static final int UP = 1;
+    public static final int DOWN = 1 << 1;
+    public static final int LEFT = 1 << 2;
+    public static final int RIGHT = 1 << 3;
+
+    private static final int SHOT_CAPACITY = 64;            // Pangkat dua
+    private static final int SHOT_MASK = SHOT_CAPACITY - 1;
+
+    /**
+     * Penerima tembakan saat ring buffer dikosongkan
+     */
+    @FunctionalInterface
+    public interface ShotConsumer {
+        void accept(int x, int y);
+    }
+
+    // ==================== ATRIBUT ====================
+    private volatile int held = 0;                          // Hanya ditulis producer
+    private final AtomicInteger pressedSincePoll = new AtomicInteger();
+
+    private final int[] shotXs = new int[SHOT_CAPACITY];
+    private final int[] shotYs = new int[SHOT_CAPACITY];
+    private final long[] shotTimes = new long[SHOT_CAPACITY];
+    private final AtomicLong shotHead = new AtomicLong();   // Ditulis consumer
+    private final AtomicLong shotTail = new AtomicLong();   // Ditulis producer
+    private final AtomicLong shotDiscard = new AtomicLong(); // Ditulis producer: tembakan sebelum index ini dibuang
+
+    // ==================== PRODUCER (EDT) ====================
+
+    /** Tombol arah ditekan */
+    public void press(int key) {
+        held |= key;
+        pressedSincePoll.accumulateAndGet(key, (a, b) -> a | b);
+    }
+
+    /** Tombol arah dilepas */
+    public void release(int key) {
+        held &= ~key;
+    }
+
+    /** Lepas semua tombol (misal window kehilangan fokus) */
+    public void releaseAll() {
+        held = 0;
+    }
+
+    /**
+     * Antrikan tembakan ke titik dunia tertentu
+     * @param nanos Waktu klik (System.nanoTime())
+     * @return false jika buffer penuh (tembakan dibuang)
+     */
+    public boolean offerShot(int x, int y, long nanos) {
+        long tail = shotTail.get();
+        if (tail - shotHead.get() == SHOT_CAPACITY) return false;
+        int slot = (int) tail & SHOT_MASK;
+        shotXs[slot] = x;
+        shotYs[slot] = y;
+        shotTimes[slot] = nanos;
+        shotTail.lazySet(tail + 1);     // Publikasikan isi slot sebelum tail
+        return true;
+    }
+
+    // ==================== CONSUMER (GAME LOOP) ====================
+
+    /**
+     * Arah gerak tick ini sebagai bitset (tombol ditahan + tombol yang sempat
+     * ditekan sejak poll terakhir)
+     */
+    public int pollDirections() {
+        return held | pressedSincePoll.getAndSet(0);
+    }
+
+    /**
+     * Ambil tembakan yang terjadi paling lambat pada waktu tertentu
+     * Tembakan setelah upToNanos menunggu tick berikutnya
+     * @return jumlah tembakan yang diambil
+     */
+    public int drainShots(long upToNanos, ShotConsumer consumer) {
+        // Tembakan yang dibuang clear() dilewati di sini, jadi head tetap hanya ditulis consumer
+        long head = Math.max(shotHead.get(), shotDiscard.get());
+        long tail = shotTail.get();
+        int drained = 0;
+        while (head < tail) {
+            int slot = (int) head & SHOT_MASK;
+            if (shotTimes[slot] - upToNanos > 0) break;
+            consumer.accept(shotXs[slot], shotYs[slot]);
+            head++;
+            drained++;
+        }
+        shotHead.lazySet(head);
+        return drained;
+    }
+
+    /**
+     * Buang semua input tertunda (dipanggil dari thread producer)
+     * Tembakan yang sudah diantrikan tidak dihapus langsung; consumer
+     * melewatinya pada drainShots berikutnya
+     */
+    public void clear() {
+        held = 0;
+        pressedSincePoll.set(0);
+        shotDiscard.set(shotTail.get());
+    }
+}
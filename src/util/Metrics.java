@@ -0,0 +1,188 @@
+package util;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Metrics - Instrumentasi runtime game (timer, counter, dan gauge entitas)
+ * Timer dicatat dengan System.nanoTime() ke LatencyHistogram, sehingga biaya per
+ * pengukuran hanya dua pembacaan jam dan satu increment atomik.
+ * Ditampilkan di overlay debug GamePanel (F3) dan lewat JMX (MetricsMXBean).
+ */
+public class Metrics {
+
+    // ==================== TIMER ====================
+    public static final LatencyHistogram UPDATE = new LatencyHistogram("update");
+    public static final LatencyHistogram COLLISION = new LatencyHistogram("collision");
+    public static final LatencyHistogram AUDIO = new LatencyHistogram("audio");
+    public static final LatencyHistogram PAINT = new LatencyHistogram("paint");
+
+    private static final LatencyHistogram[] TIMERS = {UPDATE, COLLISION, AUDIO, PAINT};
+    private static final String OBJECT_NAME = "tmd:type=Metrics";
+
+    // ==================== COUNTER & GAUGE ====================
+    private static final AtomicLong ticks = new AtomicLong();
+    private static final AtomicLong frames = new AtomicLong();
+    private static final AtomicLong sounds = new AtomicLong();
+    private static final AtomicLong droppedInputs = new AtomicLong();
+    private static final AtomicLong allocatedTotal = new AtomicLong();
+    private static volatile long allocatedLastTick = 0;
+    private static volatile long lastTickNanos = 0;
+    private static volatile long lastPaintNanos = 0;
+    private static volatile int bandits = 0;
+    private static volatile int bullets = 0;
+    private static volatile int enemyBullets = 0;
+
+    // Alokasi per thread (HotSpot), null jika tidak didukung JVM
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    // ==================== PENCATATAN ====================
+
+    /**
+     * Byte yang sudah dialokasikan thread pemanggil, -1 jika tidak didukung
+     * Dipanggil di awal tick lalu diteruskan ke recordTick
+     */
+    public static long currentThreadAllocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Catat satu tick simulasi beserta jumlah entitas setelah tick
+     * @param startNanos nanoTime di awal tick
+     * @param startAllocated hasil currentThreadAllocatedBytes() di awal tick
+     */
+    public static void recordTick(long startNanos, long startAllocated,
+                                  int banditCount, int bulletCount, int enemyBulletCount) {
+        long elapsed = System.nanoTime() - startNanos;
+        UPDATE.record(elapsed);
+        lastTickNanos = elapsed;
+        ticks.incrementAndGet();
+        bandits = banditCount;
+        bullets = bulletCount;
+        enemyBullets = enemyBulletCount;
+
+        if (startAllocated >= 0) {
+            long allocated = currentThreadAllocatedBytes() - startAllocated;
+            allocatedLastTick = allocated;
+            allocatedTotal.addAndGet(allocated);
+        }
+    }
+
+    /** Catat satu frame yang selesai di-paint */
+    public static void recordFrame(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        PAINT.record(elapsed);
+        lastPaintNanos = elapsed;
+        frames.incrementAndGet();
+    }
+
+    /** Catat satu efek suara yang diputar */
+    public static void recordSound(long startNanos) {
+        AUDIO.record(System.nanoTime() - startNanos);
+        sounds.incrementAndGet();
+    }
+
+    /** Catat satu input yang dibuang karena buffer input penuh */
+    public static void recordDroppedInput() {
+        droppedInputs.incrementAndGet();
+    }
+
+    // ==================== PEMBACAAN ====================
+
+    public static long getTickCount() { return ticks.get(); }
+    public static long getFrameCount() { return frames.get(); }
+    public static long getSoundCount() { return sounds.get(); }
+    public static long getDroppedInputCount() { return droppedInputs.get(); }
+    public static int getBanditCount() { return bandits; }
+    public static int getBulletCount() { return bullets; }
+    public static int getEnemyBulletCount() { return enemyBullets; }
+    public static long getAllocatedBytesPerTick() { return allocatedLastTick; }
+    public static long getAllocatedBytesTotal() { return allocatedTotal.get(); }
+    public static long getLastTickNanos() { return lastTickNanos; }
+    public static long getLastPaintNanos() { return lastPaintNanos; }
+
+    /** Semua timer, urutan tetap (update, collision, audio, paint) */
+    public static LatencyHistogram[] getTimers() {
+        return TIMERS.clone();
+    }
+
+    /**
+     * Kosongkan semua histogram dan counter
+     * Dipanggil saat sesi baru dimulai agar angka tidak tercampur sesi lama
+     */
+    public static void reset() {
+        for (LatencyHistogram timer : TIMERS) {
+            timer.reset();
+        }
+        ticks.set(0);
+        frames.set(0);
+        sounds.set(0);
+        droppedInputs.set(0);
+        allocatedTotal.set(0);
+        allocatedLastTick = 0;
+        lastTickNanos = 0;
+        lastPaintNanos = 0;
+    }
+
+    // ==================== JMX ====================
+
+    /**
+     * Daftarkan MBean ke platform MBeanServer (sekali saat startup)
+     */
+    public static void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MBean(), name);
+            }
+            System.out.println("✓ Metrics JMX: " + OBJECT_NAME);
+        } catch (JMException e) {
+            System.err.println("⚠ Gagal mendaftarkan metrics MBean: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Implementasi MXBean yang meneruskan ke state statis Metrics
+     */
+    private static class MBean implements MetricsMXBean {
+        @Override public long getTickCount() { return Metrics.getTickCount(); }
+        @Override public long getFrameCount() { return Metrics.getFrameCount(); }
+        @Override public long getSoundCount() { return Metrics.getSoundCount(); }
+        @Override public long getDroppedInputCount() { return Metrics.getDroppedInputCount(); }
+        @Override public int getBanditCount() { return Metrics.getBanditCount(); }
+        @Override public int getBulletCount() { return Metrics.getBulletCount(); }
+        @Override public int getEnemyBulletCount() { return Metrics.getEnemyBulletCount(); }
+        @Override public long getAllocatedBytesPerTick() { return Metrics.getAllocatedBytesPerTick(); }
+        @Override public long getAllocatedBytesTotal() { return Metrics.getAllocatedBytesTotal(); }
+        @Override public void reset() { Metrics.reset(); }
+
+        @Override
+        public Map<String, Double> getLatencyMicros() {
+            Map<String, Double> result = new LinkedHashMap<>();
+            for (LatencyHistogram timer : TIMERS) {
+                result.put(timer.getName() + ".p50", timer.getPercentile(50) / 1000.0);
+                result.put(timer.getName() + ".p99", timer.getPercentile(99) / 1000.0);
+                result.put(timer.getName() + ".max", timer.getMax() / 1000.0);
+            }
+            return result;
+        }
+    }
+
+    // ==================== HELPER ====================
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+}
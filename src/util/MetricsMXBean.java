@@ -0,0 +1,32 @@
+package util;
+
+import java.util.Map;
+
+/**
+ * MetricsMXBean - Antarmuka JMX untuk metrik runtime game
+ * Didaftarkan sebagai "tmd:type=Metrics" (lihat Metrics.registerMBean),
+ * bisa dibaca dengan JConsole / VisualVM dari mesin lain.
+ */
+public interface MetricsMXBean {
+
+    long getTickCount();
+    long getFrameCount();
+    long getSoundCount();
+    long getDroppedInputCount();
+
+    int getBanditCount();
+    int getBulletCount();
+    int getEnemyBulletCount();
+
+    long getAllocatedBytesPerTick();
+    long getAllocatedBytesTotal();
+
+    /**
+     * Latensi per subsistem dalam mikrodetik
+     * Key: "update.p50", "update.p99", "update.max", ... untuk update, collision, audio, paint
+     */
+    Map<String, Double> getLatencyMicros();
+
+    /** Kosongkan semua histogram dan counter */
+    void reset();
+}
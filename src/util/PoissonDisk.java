@@ -0,0 +1,149 @@
+package util;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * PoissonDisk - Sampling Poisson-disk (algoritma Bridson) untuk penempatan objek
+ * Menghasilkan titik-titik acak yang saling berjarak minimal minDistance tanpa
+ * loop coba-ulang per objek. Grid latar dengan sel minDistance/sqrt(2) menampung
+ * paling banyak satu titik per sel, sehingga cek tetangga hanya 5x5 sel dan
+ * total waktu linear terhadap luas area.
+ * Koordinat dibulatkan ke integer sebelum dicek, jadi jarak minimal tetap
+ * berlaku untuk posisi akhir. Deterministik untuk Random dengan seed yang sama.
+ */
+public final class PoissonDisk {
+
+    private static final int CANDIDATES_PER_POINT = 30;     // k pada Bridson
+    private static final int FIRST_POINT_ATTEMPTS = 30;
+
+    private PoissonDisk() { }
+
+    /**
+     * Isi area [x, x+width) x [y, y+height) dengan titik berjarak minimal minDistance
+     * @param excludeX Pusat area terlarang (misal posisi awal player)
+     * @param excludeY Pusat area terlarang
+     * @param excludeRadius Radius area terlarang, 0 jika tidak ada
+     * @return titik-titik dengan urutan acak (ambil n pertama untuk sebaran merata)
+     */
+    public static List<Point> sample(Random random, int x, int y, int width, int height,
+                                     double minDistance, int excludeX, int excludeY,
+                                     double excludeRadius) {
+        List<Point> points = new ArrayList<>();
+        if (width <= 0 || height <= 0) return points;
+
+        double cellSize = minDistance / Math.sqrt(2);
+        int cols = (int) Math.ceil(width / cellSize);
+        int rows = (int) Math.ceil(height / cellSize);
+        int[] grid = new int[cols * rows];      // Index titik per sel, -1 jika kosong
+        Arrays.fill(grid, -1);
+        Sampler sampler = new Sampler(points, grid, cols, rows, cellSize, x, y, width, height,
+            minDistance, excludeX, excludeY, excludeRadius);
+
+        // Titik pertama: acak di area, di luar area terlarang
+        for (int i = 0; i < FIRST_POINT_ATTEMPTS && points.isEmpty(); i++) {
+            sampler.tryAdd(x + random.nextInt(width), y + random.nextInt(height));
+        }
+
+        // Tumbuhkan dari titik aktif: coba k kandidat di cincin [r, 2r]
+        List<Integer> active = new ArrayList<>();
+        if (!points.isEmpty()) active.add(0);
+        while (!active.isEmpty()) {
+            int slot = random.nextInt(active.size());
+            Point origin = points.get(active.get(slot));
+            boolean added = false;
+            for (int k = 0; k < CANDIDATES_PER_POINT; k++) {
+                double angle = random.nextDouble() * 2 * Math.PI;
+                double radius = minDistance * (1 + random.nextDouble());
+                int cx = (int) Math.floor(origin.x + Math.cos(angle) * radius);
+                int cy = (int) Math.floor(origin.y + Math.sin(angle) * radius);
+                if (sampler.tryAdd(cx, cy)) {
+                    active.add(points.size() - 1);
+                    added = true;
+                    break;
+                }
+            }
+            if (!added) {
+                // Hapus dengan swap ke akhir (urutan active tidak penting)
+                int last = active.size() - 1;
+                active.set(slot, active.get(last));
+                active.remove(last);
+            }
+        }
+
+        // Acak urutan agar n titik pertama tersebar di seluruh area, bukan di sekitar titik awal
+        for (int i = points.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Point tmp = points.get(i);
+            points.set(i, points.get(j));
+            points.set(j, tmp);
+        }
+        return points;
+    }
+
+    /**
+     * State grid untuk satu proses sampling
+     */
+    private static final class Sampler {
+        private final List<Point> points;
+        private final int[] grid;
+        private final int cols, rows;
+        private final double cellSize;
+        private final int x, y, width, height;
+        private final double minDistanceSq;
+        private final int excludeX, excludeY;
+        private final double excludeRadiusSq;
+
+        Sampler(List<Point> points, int[] grid, int cols, int rows, double cellSize,
+                int x, int y, int width, int height, double minDistance,
+                int excludeX, int excludeY, double excludeRadius) {
+            this.points = points;
+            this.grid = grid;
+            this.cols = cols;
+            this.rows = rows;
+            this.cellSize = cellSize;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.minDistanceSq = minDistance * minDistance;
+            this.excludeX = excludeX;
+            this.excludeY = excludeY;
+            this.excludeRadiusSq = excludeRadius * excludeRadius;
+        }
+
+        /**
+         * Tambahkan titik jika berada di area, di luar area terlarang,
+         * dan cukup jauh dari titik lain
+         */
+        boolean tryAdd(int px, int py) {
+            if (px < x || py < y || px >= x + width || py >= y + height) return false;
+            if (distanceSq(px, py, excludeX, excludeY) < excludeRadiusSq) return false;
+
+            int col = (int) ((px - x) / cellSize);
+            int row = (int) ((py - y) / cellSize);
+            for (int r = Math.max(0, row - 2); r <= Math.min(rows - 1, row + 2); r++) {
+                for (int c = Math.max(0, col - 2); c <= Math.min(cols - 1, col + 2); c++) {
+                    int index = grid[r * cols + c];
+                    if (index >= 0) {
+                        Point other = points.get(index);
+                        if (distanceSq(px, py, other.x, other.y) < minDistanceSq) return false;
+                    }
+                }
+            }
+
+            grid[row * cols + col] = points.size();
+            points.add(new Point(px, py));
+            return true;
+        }
+
+        private static double distanceSq(int x1, int y1, int x2, int y2) {
+            double dx = x1 - x2;
+            double dy = y1 - y2;
+            return dx * dx + dy * dy;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package util;
+
+import java.util.List;
+
+import model.RockModel;
+
+/**
+ * RockMap - Peta tabrakan statis untuk batu, dibangun sekali saat level dimulai
+ * Arena dibagi menjadi sel CELL_SIZE pixel dengan dua summed-area table:
+ * - touched : sel yang disentuh batu mana pun
+ * - solid   : sel yang seluruhnya tertutup batu
+ * Query kotak pertama-tama dijawab dari kedua tabel dalam O(1): tidak menyentuh
+ * sel batu berarti bebas, menutupi sel solid berarti tertabrak. Hanya kotak yang
+ * menyentuh tepi batu yang dicek persis terhadap batu di sel-sel tersebut,
+ * sehingga biaya query tidak bergantung pada jumlah batu di level.
+ * Batu berupa kotak penuh; hasilnya sama persis dengan Rectangle.intersects.
+ */
+public class RockMap {
+
+    // ==================== KONSTANTA ====================
+    public static final int CELL_SIZE = 16;
+
+    // ==================== ATRIBUT ====================
+    private final int cols;
+    private final int rows;
+    private final int[] touched;            // SAT (cols + 1) x (rows + 1)
+    private final int[] solid;              // SAT (cols + 1) x (rows + 1)
+    private final int[] cellStart;          // Rentang batu per sel di cellRocks (CSR)
+    private final int[] cellRocks;
+    private final int[] rockX, rockY, rockW, rockH;
+
+    /**
+     * Constructor - Bangun peta dari batu level
+     */
+    public RockMap(List<RockModel> rocks, int worldWidth, int worldHeight) {
+        this.cols = Math.max(1, (worldWidth + CELL_SIZE - 1) / CELL_SIZE);
+        this.rows = Math.max(1, (worldHeight + CELL_SIZE - 1) / CELL_SIZE);
+
+        int n = rocks.size();
+        rockX = new int[n];
+        rockY = new int[n];
+        rockW = new int[n];
+        rockH = new int[n];
+        for (int i = 0; i < n; i++) {
+            RockModel r = rocks.get(i);
+            rockX[i] = r.getX();
+            rockY[i] = r.getY();
+            rockW[i] = r.getWidth();
+            rockH[i] = r.getHeight();
+        }
+
+        // Hitung batu per sel (counting sort ke CSR) dan tandai sel solid
+        int cells = cols * rows;
+        int[] counts = new int[cells];
+        boolean[] solidCell = new boolean[cells];
+        for (int i = 0; i < n; i++) {
+            int c0 = colOf(rockX[i]), c1 = colOf(rockX[i] + rockW[i] - 1);
+            int r0 = rowOf(rockY[i]), r1 = rowOf(rockY[i] + rockH[i] - 1);
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    counts[r * cols + c]++;
+                    if (coversCell(i, c, r)) {
+                        solidCell[r * cols + c] = true;
+                    }
+                }
+            }
+        }
+
+        cellStart = new int[cells + 1];
+        for (int i = 0; i < cells; i++) {
+            cellStart[i + 1] = cellStart[i] + counts[i];
+        }
+        cellRocks = new int[cellStart[cells]];
+        int[] fill = new int[cells];
+        for (int i = 0; i < n; i++) {
+            int c0 = colOf(rockX[i]), c1 = colOf(rockX[i] + rockW[i] - 1);
+            int r0 = rowOf(rockY[i]), r1 = rowOf(rockY[i] + rockH[i] - 1);
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    int cell = r * cols + c;
+                    cellRocks[cellStart[cell] + fill[cell]++] = i;
+                }
+            }
+        }
+
+        touched = new int[(cols + 1) * (rows + 1)];
+        solid = new int[(cols + 1) * (rows + 1)];
+        int stride = cols + 1;
+        for (int r = 0; r < rows; r++) {
+            int touchedRow = 0;
+            int solidRow = 0;
+            for (int c = 0; c < cols; c++) {
+                int cell = r * cols + c;
+                if (counts[cell] > 0) touchedRow++;
+                if (solidCell[cell]) solidRow++;
+                touched[(r + 1) * stride + c + 1] = touched[r * stride + c + 1] + touchedRow;
+                solid[(r + 1) * stride + c + 1] = solid[r * stride + c + 1] + solidRow;
+            }
+        }
+    }
+
+    // ==================== QUERY ====================
+
+    /**
+     * Cek apakah titik berada di dalam batu
+     */
+    public boolean contains(int x, int y) {
+        return intersects(x, y, 1, 1);
+    }
+
+    /**
+     * Cek apakah kotak [x, x+w) x [y, y+h) menabrak batu
+     * Aman dipanggil paralel (hanya membaca)
+     */
+    public boolean intersects(int x, int y, int w, int h) {
+        if (w <= 0 || h <= 0) return false;
+        int c0 = colOf(x), c1 = colOf(x + w - 1);
+        int r0 = rowOf(y), r1 = rowOf(y + h - 1);
+        if (sum(touched, c0, r0, c1, r1) == 0) return false;
+
+        // Sel yang seluruhnya berada di dalam kotak query
+        int ic0 = Math.max(0, Math.floorDiv(x + CELL_SIZE - 1, CELL_SIZE));
+        int ir0 = Math.max(0, Math.floorDiv(y + CELL_SIZE - 1, CELL_SIZE));
+        int ic1 = Math.min(cols - 1, Math.floorDiv(x + w, CELL_SIZE) - 1);
+        int ir1 = Math.min(rows - 1, Math.floorDiv(y + h, CELL_SIZE) - 1);
+        if (ic0 <= ic1 && ir0 <= ir1 && sum(solid, ic0, ir0, ic1, ir1) > 0) return true;
+
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                for (int k = cellStart[cell], end = cellStart[cell + 1]; k < end; k++) {
+                    if (hitsRock(cellRocks[k], x, y, w, h)) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Waktu tabrakan pertama proyektil yang bergerak selama satu tick
+     * (lihat SweptCollision); hanya batu di sel yang dilewati yang dicek
+     * @return waktu dalam [0, 1], atau SweptCollision.NO_HIT
+     */
+    public double timeOfImpact(double x, double y, double dx, double dy, int size) {
+        int px0 = (int) Math.floor(Math.min(x, x + dx));
+        int py0 = (int) Math.floor(Math.min(y, y + dy));
+        int px1 = (int) Math.ceil(Math.max(x, x + dx)) + size;
+        int py1 = (int) Math.ceil(Math.max(y, y + dy)) + size;
+        int c0 = colOf(px0), c1 = colOf(px1 - 1);
+        int r0 = rowOf(py0), r1 = rowOf(py1 - 1);
+        if (sum(touched, c0, r0, c1, r1) == 0) return SweptCollision.NO_HIT;
+
+        // Batu yang melintasi beberapa sel bisa dicek lebih dari sekali; hasil minimumnya sama
+        double first = SweptCollision.NO_HIT;
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                for (int k = cellStart[cell], end = cellStart[cell + 1]; k < end; k++) {
+                    int i = cellRocks[k];
+                    double time = SweptCollision.timeOfImpact(x, y, dx, dy, size,
+                        rockX[i], rockY[i], rockW[i], rockH[i]);
+                    if (time < first) first = time;
+                }
+            }
+        }
+        return first;
+    }
+
+    public int getRockCount() { return rockX.length; }
+
+    // ==================== HELPER ====================
+
+    /**
+     * Tes persis satu batu terhadap kotak
+     */
+    private boolean hitsRock(int i, int x, int y, int w, int h) {
+        return x < rockX[i] + rockW[i] && rockX[i] < x + w
+            && y < rockY[i] + rockH[i] && rockY[i] < y + h;
+    }
+
+    private boolean coversCell(int i, int c, int r) {
+        int x = c * CELL_SIZE;
+        int y = r * CELL_SIZE;
+        return rockX[i] <= x && x + CELL_SIZE <= rockX[i] + rockW[i]
+            && rockY[i] <= y && y + CELL_SIZE <= rockY[i] + rockH[i];
+    }
+
+    /** Jumlah nilai tabel pada rentang sel [c0..c1] x [r0..r1] */
+    private int sum(int[] table, int c0, int r0, int c1, int r1) {
+        int stride = cols + 1;
+        return table[(r1 + 1) * stride + c1 + 1] - table[r0 * stride + c1 + 1]
+             - table[(r1 + 1) * stride + c0] + table[r0 * stride + c0];
+    }
+
+    private int colOf(int x) {
+        return Math.max(0, Math.min(cols - 1, Math.floorDiv(x, CELL_SIZE)));
+    }
+
+    private int rowOf(int y) {
+        return Math.max(0, Math.min(rows - 1, Math.floorDiv(y, CELL_SIZE)));
+    }
+}
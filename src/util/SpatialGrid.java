@@ -0,0 +1,103 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * SpatialGrid - Grid seragam untuk mempercepat query tabrakan
+ * Dibangun ulang setiap tick dari index sel per entitas (counting sort),
+ * sehingga isi setiap sel selalu terurut berdasarkan index entitas dan
+ * hasil query deterministik meskipun index sel dihitung paralel.
+ */
+public class SpatialGrid {
+
+    // ==================== ATRIBUT ====================
+    private final int cellSize;
+    private final int cols;
+    private final int rows;
+    private final int[] cellStart;          // Awal rentang tiap sel di items (panjang = jumlah sel + 1)
+    private int[] items = new int[64];      // Index entitas, dikelompokkan per sel
+
+    /**
+     * Constructor - Grid untuk area dengan ukuran tertentu
+     */
+    public SpatialGrid(int worldWidth, int worldHeight, int cellSize) {
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, (worldWidth + cellSize - 1) / cellSize);
+        this.rows = Math.max(1, (worldHeight + cellSize - 1) / cellSize);
+        this.cellStart = new int[cols * rows + 1];
+    }
+
+    /**
+     * Index sel untuk sebuah titik (dijepit ke tepi grid)
+     * Aman dipanggil paralel
+     */
+    public int cellOf(int x, int y) {
+        return rowOf(y) * cols + colOf(x);
+    }
+
+    /**
+     * Bangun ulang grid dari index sel setiap entitas
+     * @param cellOfEntity cellOfEntity[i] = sel entitas i, atau -1 jika tidak dimasukkan
+     * @param count jumlah entitas
+     */
+    public void build(int[] cellOfEntity, int count) {
+        if (items.length < count) {
+            items = new int[Math.max(count, items.length * 2)];
+        }
+        Arrays.fill(cellStart, 0);
+
+        // Hitung jumlah per sel, lalu prefix sum
+        for (int i = 0; i < count; i++) {
+            int cell = cellOfEntity[i];
+            if (cell >= 0) cellStart[cell + 1]++;
+        }
+        for (int c = 0; c < cols * rows; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+
+        // Sebar index entitas; cellStart[c] dipakai sebagai kursor lalu dikembalikan
+        for (int i = 0; i < count; i++) {
+            int cell = cellOfEntity[i];
+            if (cell >= 0) items[cellStart[cell]++] = i;
+        }
+        for (int c = cols * rows; c > 0; c--) {
+            cellStart[c] = cellStart[c - 1];
+        }
+        cellStart[0] = 0;
+    }
+
+    // ==================== QUERY (read-only, aman paralel) ====================
+
+    /** Kolom grid untuk koordinat X (dijepit ke tepi) */
+    public int colOf(int x) {
+        return clampCol(Math.floorDiv(x, cellSize));
+    }
+
+    /** Baris grid untuk koordinat Y (dijepit ke tepi) */
+    public int rowOf(int y) {
+        return clampRow(Math.floorDiv(y, cellSize));
+    }
+
+    /** Awal rentang items untuk sel (col, row) */
+    public int start(int col, int row) {
+        return cellStart[row * cols + col];
+    }
+
+    /** Akhir (eksklusif) rentang items untuk sel (col, row) */
+    public int end(int col, int row) {
+        return cellStart[row * cols + col + 1];
+    }
+
+    /** Index entitas pada posisi tertentu di items */
+    public int item(int index) {
+        return items[index];
+    }
+
+    private int clampCol(int c) {
+        return Math.max(0, Math.min(cols - 1, c));
+    }
+
+    private int clampRow(int r) {
+        return Math.max(0, Math.min(rows - 1, r));
+    }
+}
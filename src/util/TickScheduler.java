@@ -0,0 +1,84 @@
+package util;
+
+import java.util.PriorityQueue;
+
+/**
+ * TickScheduler - Penjadwal event berbasis waktu simulasi (tick)
+ * Event disimpan di min-heap berdasarkan nomor tick dan dijalankan di dalam
+ * game loop, sehingga ikut berhenti saat pause dan tidak menyentuh dunia
+ * game dari thread lain (berbeda dengan javax.swing.Timer yang jalan di EDT).
+ * Event berulang (spawn wave, tembakan bandit) menjadwalkan ulang dirinya
+ * sendiri dengan schedule() di dalam callback-nya.
+ */
+public class TickScheduler {
+
+    /** Jumlah tick per detik (GameThread tidur ~16 ms per frame) */
+    public static final int TICKS_PER_SECOND = 60;
+
+    /**
+     * Event terjadwal di heap
+     */
+    private static final class Task implements Comparable<Task> {
+        private final long dueTick;
+        private final long sequence;            // Urutan FIFO untuk tick yang sama
+        private final Runnable action;
+
+        private Task(long dueTick, long sequence, Runnable action) {
+            this.dueTick = dueTick;
+            this.sequence = sequence;
+            this.action = action;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int byTick = Long.compare(dueTick, other.dueTick);
+            return byTick != 0 ? byTick : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    // ==================== ATRIBUT ====================
+    private final PriorityQueue<Task> queue = new PriorityQueue<>();
+    private long currentTick = 0;
+    private long nextSequence = 0;
+
+    /**
+     * Jadwalkan event sekali jalan
+     * @param delayTicks jumlah tick dari sekarang (minimal 1)
+     */
+    public void schedule(long delayTicks, Runnable action) {
+        queue.add(new Task(currentTick + Math.max(1, delayTicks), nextSequence++, action));
+    }
+
+    /**
+     * Maju satu tick dan jalankan semua event yang jatuh tempo
+     * Event yang dijadwalkan di dalam callback untuk tick ini ikut dijalankan
+     */
+    public void advance() {
+        currentTick++;
+
+        Task task;
+        while ((task = queue.peek()) != null && task.dueTick <= currentTick) {
+            queue.poll();
+            task.action.run();
+        }
+    }
+
+    /**
+     * Hapus semua event dan reset waktu ke tick 0
+     */
+    public void clear() {
+        queue.clear();
+        currentTick = 0;
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Konversi milidetik ke jumlah tick (dibulatkan, minimal 1)
+     */
+    public static long msToTicks(long millis) {
+        return Math.max(1, Math.round(millis * TICKS_PER_SECOND / 1000.0));
+    }
+}
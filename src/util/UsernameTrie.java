@@ -0,0 +1,116 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * UsernameTrie - Cache in-memory username untuk pencarian prefix
+ * Pencarian tidak peka huruf besar/kecil; setiap node menyimpan anak
+ * dalam array karakter terurut sehingga lookup per huruf cukup binary search.
+ */
+public class UsernameTrie {
+
+    /**
+     * Node trie - anak disimpan terurut berdasarkan karakter
+     */
+    private static class Node {
+        char[] keys = new char[0];
+        Node[] children = new Node[0];
+        String username;                    // Nama asli jika node ini akhir sebuah username
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) return children[i];
+
+            int insertAt = -i - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = new Node();
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+    }
+
+    private final Node root = new Node();
+    private int size = 0;
+
+    /**
+     * Tambah username ke trie (duplikat diabaikan)
+     */
+    public synchronized void add(String username) {
+        if (username == null || username.isEmpty()) return;
+
+        Node node = root;
+        String key = normalize(username);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        if (node.username == null) {
+            node.username = username;
+            size++;
+        }
+    }
+
+    /**
+     * Tambah banyak username sekaligus
+     */
+    public synchronized void addAll(Collection<String> usernames) {
+        for (String username : usernames) {
+            add(username);
+        }
+    }
+
+    /**
+     * Cari username yang diawali prefix tertentu (urut alfabet)
+     * @param limit jumlah maksimal hasil
+     */
+    public synchronized List<String> findByPrefix(String prefix, int limit) {
+        List<String> result = new ArrayList<>(Math.min(limit, 16));
+        Node node = root;
+        String key = normalize(prefix);
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node != null) {
+            collect(node, result, limit);
+        }
+        return result;
+    }
+
+    /** Jumlah username unik */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * DFS terurut sampai limit terpenuhi
+     */
+    private void collect(Node node, List<String> result, int limit) {
+        if (result.size() >= limit) return;
+        if (node.username != null) {
+            result.add(node.username);
+        }
+        for (Node child : node.children) {
+            if (result.size() >= limit) return;
+            collect(child, result, limit);
+        }
+    }
+
+    private static String normalize(String s) {
+        return s.toLowerCase(Locale.ROOT);
+    }
+}
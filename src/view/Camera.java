@@ -0,0 +1,60 @@
+package view;
+
+/**
+ * Camera - Viewport yang mengikuti player di dalam arena
+ * Posisi kamera adalah pojok kiri atas viewport dalam koordinat dunia,
+ * selalu dijepit agar tidak menampilkan area di luar arena.
+ * Di arena seukuran layar posisi kamera selalu (0, 0).
+ * Hanya dipakai dari EDT (paint dan mouse listener).
+ */
+public class Camera {
+
+    // ==================== ATRIBUT ====================
+    private final int worldWidth;
+    private final int worldHeight;
+    private int x;
+    private int y;
+    private int viewWidth;
+    private int viewHeight;
+
+    public Camera(int worldWidth, int worldHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    /**
+     * Pusatkan viewport pada titik target (biasanya tengah player)
+     * @param viewWidth Lebar viewport (lebar panel)
+     * @param viewHeight Tinggi viewport (tinggi panel)
+     */
+    public void follow(int targetX, int targetY, int viewWidth, int viewHeight) {
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        this.x = clamp(targetX - viewWidth / 2, worldWidth - viewWidth);
+        this.y = clamp(targetY - viewHeight / 2, worldHeight - viewHeight);
+    }
+
+    public int getX() { return x; }
+    public int getY() { return y; }
+    public int getViewWidth() { return viewWidth; }
+    public int getViewHeight() { return viewHeight; }
+
+    /**
+     * Cek apakah kotak (koordinat dunia) terlihat di viewport
+     * Dipakai untuk culling sebelum menggambar
+     */
+    public boolean isVisible(int worldX, int worldY, int width, int height) {
+        return worldX + width > x && worldX < x + viewWidth
+            && worldY + height > y && worldY < y + viewHeight;
+    }
+
+    // ==================== KONVERSI KOORDINAT ====================
+
+    /** Koordinat layar (mouse) ke koordinat dunia */
+    public int toWorldX(int screenX) { return screenX + x; }
+    public int toWorldY(int screenY) { return screenY + y; }
+
+    private static int clamp(int value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+}
@@ -9,24 +9,46 @@ import java.awt.image.BufferedImage;
 import java.util.List;
 import javax.swing.*;
 
+import ecs.Archetype;
 import model.*;
 import presenter.GamePresenter;
 import util.AssetManager;
+import util.BackgroundTiles;
 import util.CowboyDialog;
+import util.GameEvents;
+import util.LatencyHistogram;
+import util.Metrics;
 
 /**
  * GamePanel - Panel utama untuk render game
  * Menggambar semua objek game dan UI
+ * Objek dunia digambar relatif terhadap Camera dan hanya yang terlihat di
+ * viewport; UI digambar di koordinat layar.
+ * Sprite dunia dikumpulkan ke SpriteBatch per layer lalu digambar sekaligus
+ * (dikelompokkan per tekstur) setelah semua objek disubmit.
  */
 public class GamePanel extends JPanel {
     
     // ==================== REFERENSI OBJEK GAME ====================
     private final PlayerModel player;
-    private final List<BulletModel> bullets;
-    private final List<EnemyBulletModel> enemyBullets;
-    private final List<BanditModel> bandits;
+    private final Archetype bullets;
+    private final Archetype enemyBullets;
+    private final Archetype bandits;
     private final List<RockModel> rocks;
     
+    // ==================== KAMERA ====================
+    private final Camera camera;
+    private final BackgroundTiles backgroundTiles;              // null jika arena seukuran layar
+    private int drawnEntities;
+    private final SpriteBatch batch = new SpriteBatch();
+    
+    // Layer batch (kecil digambar lebih dulu)
+    private static final int LAYER_ROCKS = 0;
+    private static final int LAYER_BULLETS = 1;
+    private static final int LAYER_ENEMY_BULLETS = 2;
+    private static final int LAYER_PLAYER = 3;
+    private static final int LAYER_BANDITS = 4;
+    
     // ==================== SPRITE ASSETS ====================
     private BufferedImage background;
     private BufferedImage playerSprite;
@@ -35,6 +57,7 @@ public class GamePanel extends JPanel {
     private BufferedImage cowboyAvatar;
     
     private GamePresenter presenter;
+    private boolean metricsOverlayVisible = false;              // Overlay debug (F3)
     
     // ==================== WARNA TEMA ====================
     private static final Color UI_DARK_BROWN = new Color(90, 50, 30);
@@ -46,32 +69,75 @@ public class GamePanel extends JPanel {
     
     private static final Color HP_BAR_COLOR = new Color(220, 60, 60);
     private static final Color AMMO_BAR_COLOR = new Color(255, 200, 60);
-    private static final Color BULLET_COLOR = new Color(255, 215, 0);
-    private static final Color ENEMY_BULLET_COLOR = new Color(220, 20, 60);
+    private static final Color UI_SHADOW_BROWN = new Color(60, 35, 20);
+    private static final Color MISSED_COLOR = new Color(255, 100, 100);
+    private static final Color HINT_COLOR = new Color(255, 255, 255, 150);
+    private static final Color FILL_HIGHLIGHT = new Color(255, 255, 255, 80);
+    private static final Color FILL_SHADOW = new Color(0, 0, 0, 40);
+    private static final Color FILL_TEXTURE = new Color(255, 255, 255, 30);
     
     private static final Color DIALOG_BG = new Color(20, 15, 10, 220);
     private static final Color DIALOG_TEXT = new Color(255, 220, 180);
     private static final Color DIALOG_BORDER = new Color(210, 180, 120);
+    private static final Color TEXT_SHADOW = new Color(0, 0, 0, 180);
     
     private static final Color PAUSE_OVERLAY = new Color(0, 0, 0, 180);
+    private static final Color PAUSE_SHADOW = new Color(0, 0, 0, 200);
+    private static final Color PAUSE_INFO_TEXT = new Color(255, 220, 180);
+    private static final Color METRICS_BG = new Color(0, 0, 0, 170);
+    private static final Color METRICS_TEXT = new Color(180, 255, 180);
     
     // ==================== FONT ====================
     private static final Font RETRO_FONT = new Font("Monospaced", Font.BOLD, 14);
     private static final Font DIALOG_FONT = new Font("Serif", Font.BOLD, 16);
     private static final Font PAUSE_FONT = new Font("Serif", Font.BOLD, 48);
     private static final Font PAUSE_INFO_FONT = new Font("SansSerif", Font.PLAIN, 18);
+    private static final Font METRICS_FONT = new Font("Monospaced", Font.PLAIN, 12);
+    private static final Font HINT_FONT = new Font("SansSerif", Font.PLAIN, 12);
+    private static final Font STAR_FONT = new Font("Serif", Font.BOLD, 20);
+    
+    // ==================== STROKE & TEKS ====================
+    private static final BasicStroke DIALOG_OUTER_STROKE = new BasicStroke(3);
+    private static final BasicStroke DIALOG_INNER_STROKE = new BasicStroke(1);
+    private static final String[] PAUSE_INSTRUCTIONS = {
+        "Press SPACE to Resume",
+        "Press ESC to Return to Menu"
+    };
+    
+    // Label angka: String baru hanya saat nilainya berubah
+    private final RenderResources.Label hpLabel = new RenderResources.Label("HP: ", "/");
+    private final RenderResources.Label ammoLabel = new RenderResources.Label("", "/");
+    private final RenderResources.Label scoreLabel = new RenderResources.Label("SCORE: ");
+    private final RenderResources.Label missedLabel = new RenderResources.Label("MISSED: ");
+    
+    /**
+     * Constructor - Inisialisasi panel untuk arena seukuran layar (800x600)
+     */
+    public GamePanel(PlayerModel player, Archetype bullets, 
+                     List<RockModel> rocks, Archetype bandits, 
+                     Archetype enemyBullets) {
+        this(player, bullets, rocks, bandits, enemyBullets, 800, 600);
+    }
     
     /**
      * Constructor - Inisialisasi panel dan load assets
+     * @param worldWidth Lebar arena
+     * @param worldHeight Tinggi arena
      */
-    public GamePanel(PlayerModel player, List<BulletModel> bullets, 
-                     List<RockModel> rocks, List<BanditModel> bandits, 
-                     List<EnemyBulletModel> enemyBullets) {
+    public GamePanel(PlayerModel player, Archetype bullets, 
+                     List<RockModel> rocks, Archetype bandits, 
+                     Archetype enemyBullets,
+                     int worldWidth, int worldHeight) {
         this.player = player;
         this.bullets = bullets;
         this.rocks = rocks;
         this.bandits = bandits;
         this.enemyBullets = enemyBullets;
+        this.camera = new Camera(worldWidth, worldHeight);
+        
+        // Arena lebih besar dari layar: background di-stream per tile
+        boolean largeArena = worldWidth > 800 || worldHeight > 600;
+        this.backgroundTiles = largeArena ? new BackgroundTiles(worldWidth, worldHeight) : null;
         
         setBackground(Color.BLACK);
         setPreferredSize(new Dimension(800, 600));
@@ -88,6 +154,21 @@ public class GamePanel extends JPanel {
         banditSprite = AssetManager.loadImage("bandit.png");
         rockSprite = AssetManager.loadImage("rock.png");
         cowboyAvatar = AssetManager.loadImage("cowboy_avatar.png");
+        
+        // Sprite yang tidak ada diganti kotak warna agar tetap bisa di-batch
+        if (playerSprite == null) playerSprite = solidSprite(Color.BLUE);
+        if (banditSprite == null) banditSprite = solidSprite(Color.RED);
+        if (rockSprite == null) rockSprite = solidSprite(Color.GRAY);
+    }
+    
+    /** Kotak polos 40x40 sebagai pengganti sprite (diskalakan saat digambar) */
+    private static BufferedImage solidSprite(Color color) {
+        BufferedImage image = RenderResources.compatibleImage(40, 40);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, 40, 40);
+        g.dispose();
+        return image;
     }
     
     /**
@@ -100,7 +181,8 @@ public class GamePanel extends JPanel {
             @Override
             public void mousePressed(MouseEvent e) {
                 if (presenter != null && !presenter.isGamePaused()) {
-                    presenter.shoot(e.getX(), e.getY());
+                    // Posisi mouse di layar -> posisi di dunia sesuai frame terakhir
+                    presenter.shoot(camera.toWorldX(e.getX()), camera.toWorldY(e.getY()));
                 }
             }
         });
@@ -111,6 +193,9 @@ public class GamePanel extends JPanel {
      */
     @Override
     protected void paintComponent(Graphics g) {
+        GameEvents.Paint event = new GameEvents.Paint();
+        event.begin();
+        long startNanos = System.nanoTime();
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
         
@@ -119,13 +204,22 @@ public class GamePanel extends JPanel {
         g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
         
-        // Render semua objek (urutan penting untuk layering)
+        // Kamera mengikuti tengah player
+        camera.follow(player.getX() + 20, player.getY() + 20, getWidth(), getHeight());
+        drawnEntities = 0;
+        
+        // Render objek dunia relatif terhadap kamera (urutan penting untuk layering)
+        g2d.translate(-camera.getX(), -camera.getY());
         drawBackground(g2d);
         drawRocks(g2d);
         drawBullets(g2d);
         drawEnemyBullets(g2d);
         drawPlayer(g2d);
         drawBandits(g2d);
+        batch.flush(g2d);
+        g2d.translate(camera.getX(), camera.getY());
+        
+        // UI di koordinat layar
         drawUI(g2d);
         drawDialog(g2d);
         
@@ -133,89 +227,127 @@ public class GamePanel extends JPanel {
         if (presenter != null && presenter.isGamePaused()) {
             drawPauseOverlay(g2d);
         }
+        
+        // Overlay metrik menampilkan angka sampai frame sebelumnya
+        if (metricsOverlayVisible) {
+            drawMetricsOverlay(g2d);
+        }
+        Metrics.recordFrame(startNanos);
+        
+        event.entities = drawnEntities;
+        event.drawCalls = batch.getDrawCalls();
+        event.stateChanges = batch.getStateChanges();
+        event.width = getWidth();
+        event.height = getHeight();
+        event.commit();
+    }
+    
+    /**
+     * Tampilkan / sembunyikan overlay metrik performa
+     */
+    public void setMetricsOverlayVisible(boolean visible) {
+        this.metricsOverlayVisible = visible;
+        repaint();
     }
     
     // ==================== RENDER OBJEK GAME ====================
     
-    /** Render background */
+    /** Render background (satu gambar, atau tile yang terlihat untuk arena besar) */
     private void drawBackground(Graphics2D g) {
-        if (background != null) {
+        if (backgroundTiles != null) {
+            backgroundTiles.draw(g, camera.getX(), camera.getY(), getWidth(), getHeight());
+        } else if (background != null) {
             g.drawImage(background, 0, 0, getWidth(), getHeight(), null);
         }
     }
     
-    /** Render player sprite */
+    /** Antrikan player sprite */
     private void drawPlayer(Graphics2D g) {
-        if (playerSprite != null) {
-            g.drawImage(playerSprite, player.getX(), player.getY(), 40, 40, null);
-        } else {
-            // Fallback jika sprite tidak ada
-            g.setColor(Color.BLUE);
-            g.fillRect(player.getX(), player.getY(), 40, 40);
-        }
+        drawnEntities++;
+        batch.draw(LAYER_PLAYER, playerSprite, player.getX(), player.getY(), 40, 40);
     }
     
-    /** Render semua bandit yang masih hidup */
+    /**
+     * Antrikan semua bandit yang masih hidup
+     * Array dibaca sekali di awal; jumlah baris dibatasi panjang array karena
+     * simulasi bisa memperbesar archetype di thread lain
+     */
     private void drawBandits(Graphics2D g) {
-        for (BanditModel bandit : bandits) {
-            if (bandit.isAlive()) {
-                if (banditSprite != null) {
-                    g.drawImage(banditSprite, bandit.getX(), bandit.getY(), 40, 40, null);
-                } else {
-                    g.setColor(Color.RED);
-                    g.fillRect(bandit.getX(), bandit.getY(), 40, 40);
-                }
+        double[] xs = bandits.getXs();
+        double[] ys = bandits.getYs();
+        int n = Math.min(bandits.getCount(), xs.length);
+        for (int i = 0; i < n; i++) {
+            int x = (int) xs[i];
+            int y = (int) ys[i];
+            if (bandits.isAliveAt(i) && camera.isVisible(x, y, 40, 40)) {
+                drawnEntities++;
+                batch.draw(LAYER_BANDITS, banditSprite, x, y, 40, 40);
             }
         }
     }
     
-    /** Render semua batu */
+    /** Antrikan semua batu yang terlihat */
     private void drawRocks(Graphics2D g) {
         for (RockModel rock : rocks) {
-            if (rockSprite != null) {
-                g.drawImage(rockSprite, rock.getX(), rock.getY(), 
-                           rock.getWidth(), rock.getHeight(), null);
-            } else {
-                g.setColor(Color.GRAY);
-                g.fillRect(rock.getX(), rock.getY(), rock.getWidth(), rock.getHeight());
+            if (!camera.isVisible(rock.getX(), rock.getY(), rock.getWidth(), rock.getHeight())) {
+                continue;
             }
+            drawnEntities++;
+            batch.draw(LAYER_ROCKS, rockSprite, rock.getX(), rock.getY(),
+                       rock.getWidth(), rock.getHeight());
         }
     }
     
-    /** Render peluru player dengan efek glow */
+    /** Antrikan peluru player dengan efek glow (sprite yang sudah jadi) */
     private void drawBullets(Graphics2D g) {
-        for (BulletModel bullet : bullets) {
-            if (bullet.isActive()) {
-                // Glow effect
-                g.setColor(new Color(255, 215, 0, 100));
-                g.fillOval(bullet.getX() - 2, bullet.getY() - 2, 
-                          bullet.getSize() + 4, bullet.getSize() + 4);
-                
-                // Peluru utama
-                g.setColor(BULLET_COLOR);
-                g.fillOval(bullet.getX(), bullet.getY(), 
-                          bullet.getSize(), bullet.getSize());
+        double[] xs = bullets.getXs();
+        double[] ys = bullets.getYs();
+        int[] sizes = bullets.getColliderSizes();
+        int n = Math.min(bullets.getCount(), Math.min(xs.length, sizes.length));
+        for (int i = 0; i < n; i++) {
+            int x = (int) xs[i];
+            int y = (int) ys[i];
+            int size = sizes[i];
+            if (bullets.isAliveAt(i) && isBulletVisible(x, y, size)) {
+                drawnEntities++;
+                drawBullet(LAYER_BULLETS, RenderResources.PLAYER_BULLET, x, y, size);
             }
         }
     }
     
-    /** Render peluru musuh dengan efek glow */
+    /** Antrikan peluru musuh dengan efek glow (sprite yang sudah jadi) */
     private void drawEnemyBullets(Graphics2D g) {
-        for (EnemyBulletModel bullet : enemyBullets) {
-            if (bullet.isActive()) {
-                // Glow effect
-                g.setColor(new Color(220, 20, 60, 100));
-                g.fillOval(bullet.getX() - 2, bullet.getY() - 2, 
-                          bullet.getSize() + 4, bullet.getSize() + 4);
-                
-                // Peluru utama
-                g.setColor(ENEMY_BULLET_COLOR);
-                g.fillOval(bullet.getX(), bullet.getY(), 
-                          bullet.getSize(), bullet.getSize());
+        double[] xs = enemyBullets.getXs();
+        double[] ys = enemyBullets.getYs();
+        int[] sizes = enemyBullets.getColliderSizes();
+        int n = Math.min(enemyBullets.getCount(), Math.min(xs.length, sizes.length));
+        for (int i = 0; i < n; i++) {
+            int x = (int) xs[i];
+            int y = (int) ys[i];
+            int size = sizes[i];
+            if (enemyBullets.isAliveAt(i) && isBulletVisible(x, y, size)) {
+                drawnEntities++;
+                drawBullet(LAYER_ENEMY_BULLETS, RenderResources.ENEMY_BULLET, x, y, size);
             }
         }
     }
     
+    /**
+     * Satu peluru: glow + inti dalam satu sprite, diantrikan ke layer-nya
+     */
+    private void drawBullet(int layer, int kind, int x, int y, int size) {
+        BufferedImage sprite = RenderResources.bulletSprite(kind, size);
+        if (sprite == null) return;
+        int glow = RenderResources.GLOW;
+        batch.draw(layer, sprite, x - glow, y - glow, size + 2 * glow, size + 2 * glow);
+    }
+    
+    /** Peluru terlihat jika glow-nya (2 px di setiap sisi) masuk viewport */
+    private boolean isBulletVisible(int x, int y, int size) {
+        int glow = RenderResources.GLOW;
+        return camera.isVisible(x - glow, y - glow, size + 2 * glow, size + 2 * glow);
+    }
+    
     // ==================== RENDER UI ====================
     
     /**
@@ -232,47 +364,49 @@ public class GamePanel extends JPanel {
         
         g.setFont(RETRO_FONT);
         g.setColor(UI_HIGHLIGHT);
-        g.drawString("HP: " + player.getHp() + "/" + player.getMaxHp(), uiX + 10, uiY + 19);
+        g.drawString(hpLabel.of(player.getHp(), player.getMaxHp()), uiX + 10, uiY + 19);
         
         // Ammo Section
         int ammoY = uiY + 40;
         drawRetroLabelBox(g, uiX, ammoY, 80, 24);
-        g.drawString("Peluru:", uiX + 8, ammoY + 17);
+        RenderResources.drawText(g, "Peluru:", uiX + 8, ammoY + 17);
         
         int ammoBarX = uiX + 90;
         drawRetroFrame(g, ammoBarX, ammoY, 190, 24);
         drawRetroFill(g, ammoBarX + 6, ammoY + 6, 178, 12, 
                       player.getAmmo(), player.getMaxAmmo(), AMMO_BAR_COLOR);
-        g.drawString(player.getAmmo() + "/" + player.getMaxAmmo(), ammoBarX + 10, ammoY + 17);
+        g.drawString(ammoLabel.of(player.getAmmo(), player.getMaxAmmo()), ammoBarX + 10, ammoY + 17);
         
         // Score & Statistik
         drawGameStats(g, uiX, ammoY + 40);
         
         // Hint kontrol
-        g.setFont(new Font("SansSerif", Font.PLAIN, 12));
-        g.setColor(new Color(255, 255, 255, 150));
-        g.drawString("SPACE: Pause/Menu", getWidth() - 150, getHeight() - 10);
+        g.setFont(HINT_FONT);
+        g.setColor(HINT_COLOR);
+        RenderResources.drawText(g, "SPACE: Pause/Menu", getWidth() - 150, getHeight() - 10);
     }
     
     /**
      * Render skor dan statistik game
      */
     private void drawGameStats(Graphics2D g, int x, int y) {
-        g.setFont(new Font("Monospaced", Font.BOLD, 14));
+        g.setFont(RETRO_FONT);
         
         // Score dengan shadow
+        String score = scoreLabel.of(player.getScore());
         g.setColor(UI_DARK_BROWN);
-        g.drawString("SCORE: " + player.getScore(), x + 2, y + 2);
+        g.drawString(score, x + 2, y + 2);
         g.setColor(UI_HIGHLIGHT);
-        g.drawString("SCORE: " + player.getScore(), x, y);
+        g.drawString(score, x, y);
         
         // Bullets missed
         if (presenter != null && presenter.getCurrentStats() != null) {
             int missedY = y + 20;
+            String missed = missedLabel.of(presenter.getCurrentStats().getBulletsMissed());
             g.setColor(UI_DARK_BROWN);
-            g.drawString("MISSED: " + presenter.getCurrentStats().getBulletsMissed(), x + 2, missedY + 2);
-            g.setColor(new Color(255, 100, 100));
-            g.drawString("MISSED: " + presenter.getCurrentStats().getBulletsMissed(), x, missedY);
+            g.drawString(missed, x + 2, missedY + 2);
+            g.setColor(MISSED_COLOR);
+            g.drawString(missed, x, missedY);
         }
     }
     
@@ -292,7 +426,7 @@ public class GamePanel extends JPanel {
         
         // Apply fade effect
         Composite originalComposite = g.getComposite();
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
+        g.setComposite(RenderResources.alpha(opacity));
         
         // Draw box
         drawDialogBox(g, dialogX, dialogY, dialogWidth, dialogHeight);
@@ -303,7 +437,7 @@ public class GamePanel extends JPanel {
         int textX = dialogX + (dialogWidth - fm.stringWidth(dialog)) / 2;
         int textY = dialogY + (dialogHeight + fm.getAscent() - fm.getDescent()) / 2;
         
-        g.setColor(new Color(0, 0, 0, 180));
+        g.setColor(TEXT_SHADOW);
         g.drawString(dialog, textX + 2, textY + 2);
         
         g.setColor(DIALOG_TEXT);
@@ -322,18 +456,18 @@ public class GamePanel extends JPanel {
         
         // Border luar
         g.setColor(DIALOG_BORDER);
-        g.setStroke(new BasicStroke(3));
+        g.setStroke(DIALOG_OUTER_STROKE);
         g.drawRoundRect(x, y, w, h, 15, 15);
         
         // Border dalam (emas)
         g.setColor(UI_GOLD);
-        g.setStroke(new BasicStroke(1));
+        g.setStroke(DIALOG_INNER_STROKE);
         g.drawRoundRect(x + 3, y + 3, w - 6, h - 6, 12, 12);
         
         // Dekorasi bintang
-        g.setFont(new Font("Serif", Font.BOLD, 20));
-        g.drawString("★", x + 10, y + 25);
-        g.drawString("★", x + w - 28, y + 25);
+        g.setFont(STAR_FONT);
+        RenderResources.drawText(g, "★", x + 10, y + 25);
+        RenderResources.drawText(g, "★", x + w - 28, y + 25);
     }
     
     // ==================== PAUSE OVERLAY ====================
@@ -350,37 +484,77 @@ public class GamePanel extends JPanel {
         // Teks "PAUSED" dengan shadow
         g.setFont(PAUSE_FONT);
         String pauseText = "PAUSED";
-        FontMetrics fm = g.getFontMetrics();
-        int x = (getWidth() - fm.stringWidth(pauseText)) / 2;
+        int x = (getWidth() - RenderResources.textWidth(g, pauseText)) / 2;
         int y = getHeight() / 2 - 50;
         
-        g.setColor(new Color(0, 0, 0, 200));
-        g.drawString(pauseText, x + 3, y + 3);
+        g.setColor(PAUSE_SHADOW);
+        RenderResources.drawText(g, pauseText, x + 3, y + 3);
         
         g.setColor(Color.WHITE);
-        g.drawString(pauseText, x, y);
+        RenderResources.drawText(g, pauseText, x, y);
         
         // Instruksi
         g.setFont(PAUSE_INFO_FONT);
-        String[] instructions = {
-            "Press SPACE to Resume",
-            "Press ESC to Return to Menu"
-        };
-        
         int instructY = y + 80;
-        for (String instruction : instructions) {
-            int instX = (getWidth() - g.getFontMetrics().stringWidth(instruction)) / 2;
+        for (String instruction : PAUSE_INSTRUCTIONS) {
+            int instX = (getWidth() - RenderResources.textWidth(g, instruction)) / 2;
             
-            g.setColor(new Color(0, 0, 0, 200));
-            g.drawString(instruction, instX + 2, instructY + 2);
+            g.setColor(PAUSE_SHADOW);
+            RenderResources.drawText(g, instruction, instX + 2, instructY + 2);
             
-            g.setColor(new Color(255, 220, 180));
-            g.drawString(instruction, instX, instructY);
+            g.setColor(PAUSE_INFO_TEXT);
+            RenderResources.drawText(g, instruction, instX, instructY);
             
             instructY += 35;
         }
     }
     
+    // ==================== METRICS OVERLAY ====================
+    
+    /**
+     * Render overlay debug: latensi per subsistem (p50/p99/max dalam ms),
+     * jumlah entitas, dan alokasi memori per tick
+     */
+    private void drawMetricsOverlay(Graphics2D g) {
+        LatencyHistogram[] timers = Metrics.getTimers();
+        int lineHeight = 15;
+        int w = 330;
+        int h = (timers.length + 6) * lineHeight + 10;
+        int x = getWidth() - w - 10;
+        int y = 10;
+        
+        g.setColor(METRICS_BG);
+        g.fillRect(x, y, w, h);
+        g.setFont(METRICS_FONT);
+        g.setColor(METRICS_TEXT);
+        
+        int textX = x + 8;
+        int textY = y + lineHeight;
+        g.drawString(String.format("%-10s %7s %7s %7s", "ms", "p50", "p99", "max"), textX, textY);
+        for (LatencyHistogram timer : timers) {
+            textY += lineHeight;
+            g.drawString(String.format("%-10s %7.3f %7.3f %7.3f",
+                timer.getName(),
+                timer.getPercentile(50) / 1e6,
+                timer.getPercentile(99) / 1e6,
+                timer.getMax() / 1e6), textX, textY);
+        }
+        
+        textY += lineHeight * 2;
+        g.drawString(String.format("bandit %d  peluru %d  musuh %d",
+            Metrics.getBanditCount(), Metrics.getBulletCount(), Metrics.getEnemyBulletCount()), textX, textY);
+        textY += lineHeight;
+        g.drawString(String.format("alloc %,d B/tick  total %,d KB",
+            Metrics.getAllocatedBytesPerTick(), Metrics.getAllocatedBytesTotal() / 1024), textX, textY);
+        textY += lineHeight;
+        g.drawString(String.format("tick %,d  frame %,d  sfx %,d  input dibuang %,d",
+            Metrics.getTickCount(), Metrics.getFrameCount(), Metrics.getSoundCount(),
+            Metrics.getDroppedInputCount()), textX, textY);
+        textY += lineHeight;
+        g.drawString(String.format("draw call %,d  state %,d  (frame ini)",
+            batch.getDrawCalls(), batch.getStateChanges()), textX, textY);
+    }
+    
     // ==================== UI HELPER FUNCTIONS ====================
     
     /**
@@ -402,7 +576,7 @@ public class GamePanel extends JPanel {
         g.fillRect(x + 2, y + 2, 2, h - 4);
         
         // Shadow (kanan bawah)
-        g.setColor(new Color(60, 35, 20));
+        g.setColor(UI_SHADOW_BROWN);
         g.fillRect(x + 2, y + h - 2, w - 2, 2);
         g.fillRect(x + w - 2, y + 2, 2, h - 2);
         
@@ -447,15 +621,15 @@ public class GamePanel extends JPanel {
             g.fillRect(x, y, fillWidth, h);
             
             // Highlight atas (efek 3D)
-            g.setColor(new Color(255, 255, 255, 80));
+            g.setColor(FILL_HIGHLIGHT);
             g.fillRect(x, y, fillWidth, h / 3);
             
             // Shadow bawah
-            g.setColor(new Color(0, 0, 0, 40));
+            g.setColor(FILL_SHADOW);
             g.fillRect(x, y + h - h / 4, fillWidth, h / 4);
             
             // Texture garis vertikal
-            g.setColor(new Color(255, 255, 255, 30));
+            g.setColor(FILL_TEXTURE);
             for (int i = 0; i < fillWidth; i += 4) {
                 g.drawLine(x + i, y, x + i, y + h);
             }
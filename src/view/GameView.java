@@ -8,6 +8,8 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 
 /**
  * GameView
@@ -21,6 +23,7 @@ public class GameView extends JFrame {
     private static final int HEIGHT = 600;
 
     private GamePanel gamePanel;
+    private boolean metricsOverlayVisible = false;   // Bertahan antar sesi
     private final GamePresenter presenter;
 
     public GameView(GamePresenter presenter) {
@@ -42,13 +45,22 @@ public class GameView extends JFrame {
     /* ================= INPUT ================= */
 
     private void initInput() {
-        addKeyListener(new InputHandler(presenter));
+        addKeyListener(new InputHandler(presenter.getInputState()));
+
+        // Tombol yang dilepas saat window tidak fokus tidak pernah sampai: anggap semua dilepas
+        addWindowFocusListener(new WindowAdapter() {
+            @Override
+            public void windowLostFocus(WindowEvent e) {
+                presenter.getInputState().releaseAll();
+            }
+        });
 
         addKeyListener(new KeyAdapter() {
             @Override
             public void keyPressed(KeyEvent e) {
                 switch (e.getKeyCode()) {
                     case KeyEvent.VK_SPACE -> presenter.togglePause();
+                    case KeyEvent.VK_F3 -> toggleMetricsOverlay();
                     case KeyEvent.VK_ESCAPE -> {
                         if (presenter.isGamePaused()) {
                             presenter.returnToMenu();
@@ -64,12 +76,18 @@ public class GameView extends JFrame {
     public void setGamePanel(GamePanel panel) {
         if (gamePanel != null) remove(gamePanel);
         gamePanel = panel;
+        gamePanel.setMetricsOverlayVisible(metricsOverlayVisible);
         add(gamePanel);
         revalidate();
         repaint();
         requestFocusInWindow();
     }
 
+    private void toggleMetricsOverlay() {
+        metricsOverlayVisible = !metricsOverlayVisible;
+        if (gamePanel != null) gamePanel.setMetricsOverlayVisible(metricsOverlayVisible);
+    }
+
     public void refresh() {
         if (gamePanel != null) gamePanel.repaint();
     }
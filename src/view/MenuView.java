@@ -3,13 +3,17 @@ package view;
 import presenter.GamePresenter;
 import model.PlayerStatsModel;
 import model.HistoryModel;
+import model.LeaderboardWindow;
 
 import javax.swing.*;
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.DefaultTableCellRenderer;
 
 /**
@@ -23,7 +27,11 @@ public class MenuView extends JFrame {
     private BufferedImage backgroundImage;
     private BufferedImage logoImage;
     private JTextField usernameField;
+    private JPopupMenu suggestionPopup;
+    private boolean applyingSuggestion = false;
     private JTable statsTable;
+    private LeaderboardWindow leaderboardWindow = LeaderboardWindow.ALL_TIME;
+    private final List<JButton> windowButtons = new ArrayList<>();
     
     // ==================== FONT ====================
     private Font rdrFont;
@@ -39,6 +47,9 @@ public class MenuView extends JFrame {
     // ==================== UKURAN WINDOW ====================
     private static final int WINDOW_WIDTH = 1280;
     private static final int WINDOW_HEIGHT = 720;
+    
+    // ==================== SARAN USERNAME ====================
+    private static final int MAX_SUGGESTIONS = 5;
 
     /**
      * Constructor - Inisialisasi menu view
@@ -346,6 +357,76 @@ public class MenuView extends JFrame {
         JPanel tablePanel = createStatsTablePanel();
         tablePanel.setBounds(140, 230, 1000, 250);
         panel.add(tablePanel);
+        
+        addWindowButtons(panel);
+    }
+
+    /**
+     * Tambah tombol pilihan rentang leaderboard (DAILY / WEEKLY / ALL TIME)
+     * Diletakkan rata kanan tepat di atas tabel
+     */
+    private void addWindowButtons(JPanel panel) {
+        LeaderboardWindow[] windows = LeaderboardWindow.values();
+        int width = 120;
+        int x = 140 + 1000 - windows.length * (width + 6);
+        
+        for (LeaderboardWindow window : windows) {
+            JButton button = createWindowButton(window);
+            button.setBounds(x, 202, width, 26);
+            panel.add(button);
+            windowButtons.add(button);
+            x += width + 6;
+        }
+    }
+
+    /**
+     * Buat tombol rentang leaderboard - merah terang jika sedang dipilih
+     */
+    private JButton createWindowButton(LeaderboardWindow window) {
+        JButton button = new JButton(window.getLabel()) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g;
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                
+                Color color = (window == leaderboardWindow) ? RDR_BRIGHT_RED : RDR_DARK;
+                if (getModel().isRollover()) {
+                    color = color.brighter();
+                }
+                g2d.setColor(color);
+                g2d.fillRect(0, 0, getWidth(), getHeight());
+                
+                g2d.setColor(RDR_RED);
+                g2d.setStroke(new BasicStroke(2));
+                g2d.drawRect(1, 1, getWidth() - 2, getHeight() - 2);
+                
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int textX = (getWidth() - fm.stringWidth(getText())) / 2;
+                int textY = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.setColor(RDR_CREAM);
+                g2d.drawString(getText(), textX, textY);
+            }
+        };
+        
+        button.setFont(new Font("SansSerif", Font.BOLD, 14));
+        button.setFocusPainted(false);
+        button.setBorderPainted(false);
+        button.setContentAreaFilled(false);
+        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        button.addActionListener(e -> selectLeaderboardWindow(window));
+        return button;
+    }
+
+    /**
+     * Ganti rentang leaderboard dan muat ulang tabel
+     */
+    private void selectLeaderboardWindow(LeaderboardWindow window) {
+        leaderboardWindow = window;
+        updateTableData();
+        for (JButton button : windowButtons) {
+            button.repaint();
+        }
     }
 
     /**
@@ -441,7 +522,7 @@ public class MenuView extends JFrame {
      */
     private void updateTableData() {
     // 1. Ambil semua data dari presenter
-    List<HistoryModel> historyList = presenter.loadHistory();
+    List<HistoryModel> historyList = presenter.loadHistory(leaderboardWindow);
     
     String[] columnNames = {"USERNAME", "SCORE", "MISSED SHOT", "AMMO LEFT"};
     
@@ -528,10 +609,70 @@ public class MenuView extends JFrame {
             BorderFactory.createEmptyBorder(10, 15, 10, 15)
         ));
         panel.add(usernameField);
+        
+        initUsernameSuggestions();
 
         return panel;
     }
 
+    /**
+     * Tampilkan saran username (prefix search) setiap kali field berubah
+     */
+    private void initUsernameSuggestions() {
+        suggestionPopup = new JPopupMenu();
+        suggestionPopup.setFocusable(false);
+        suggestionPopup.setBackground(RDR_BLACK);
+        suggestionPopup.setBorder(BorderFactory.createLineBorder(RDR_RED, 2));
+        
+        usernameField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) { updateSuggestions(); }
+            @Override
+            public void removeUpdate(DocumentEvent e) { updateSuggestions(); }
+            @Override
+            public void changedUpdate(DocumentEvent e) { updateSuggestions(); }
+        });
+    }
+
+    /**
+     * Isi ulang popup saran berdasarkan teks saat ini
+     */
+    private void updateSuggestions() {
+        if (applyingSuggestion) return;
+        
+        String prefix = usernameField.getText().trim();
+        suggestionPopup.setVisible(false);
+        suggestionPopup.removeAll();
+        if (prefix.isEmpty() || !usernameField.isShowing()) return;
+        
+        List<String> matches = presenter.searchUsernames(prefix, MAX_SUGGESTIONS);
+        // Tidak perlu saran jika satu-satunya hasil sama persis dengan yang diketik
+        if (matches.isEmpty() || (matches.size() == 1 && matches.get(0).equalsIgnoreCase(prefix))) {
+            return;
+        }
+        
+        for (String name : matches) {
+            JMenuItem item = new JMenuItem(name);
+            item.setFont(new Font("SansSerif", Font.BOLD, 18));
+            item.setBackground(RDR_BLACK);
+            item.setForeground(RDR_CREAM);
+            item.addActionListener(e -> applySuggestion(name));
+            suggestionPopup.add(item);
+        }
+        suggestionPopup.show(usernameField, 0, usernameField.getHeight());
+        usernameField.requestFocusInWindow();
+    }
+
+    /**
+     * Pakai username yang dipilih dari popup
+     */
+    private void applySuggestion(String name) {
+        applyingSuggestion = true;
+        usernameField.setText(name);
+        applyingSuggestion = false;
+        suggestionPopup.setVisible(false);
+    }
+
     // ==================== ACTIONS ====================
 
     /**
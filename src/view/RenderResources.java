@@ -0,0 +1,181 @@
+package view;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * RenderResources - Cache objek render agar paint tidak mengalokasikan apa pun
+ * - Sprite peluru ber-glow dibuat sekali per ukuran (berapa pun), lalu cukup di-drawImage
+ *   (menggantikan dua fillOval dan dua Color baru per peluru).
+ * - AlphaComposite untuk fade dialog di-cache per 256 level opacity.
+ * - GlyphVector untuk teks statis di-cache per font; dibuang jika
+ *   FontRenderContext berubah (misal hint antialias lain).
+ * - Label angka (HP, skor, ...) hanya membuat String baru saat angkanya berubah.
+ * Hanya dipakai dari EDT.
+ */
+final class RenderResources {
+
+    // ==================== KONSTANTA ====================
+    static final int GLOW = 2;                              // Lebar glow di setiap sisi peluru (pixel)
+    static final int PLAYER_BULLET = 0;
+    static final int ENEMY_BULLET = 1;
+
+    private static final int INITIAL_SPRITE_SIZES = 17;     // Ukuran 0..16 px; lebih besar menambah cache
+    private static final Color[] BULLET_CORES = {new Color(255, 215, 0), new Color(220, 20, 60)};
+    private static final Color[] BULLET_GLOWS = {new Color(255, 215, 0, 100), new Color(220, 20, 60, 100)};
+
+    // ==================== CACHE ====================
+    private static final BufferedImage[][] bulletSprites = new BufferedImage[2][INITIAL_SPRITE_SIZES];
+    private static final AlphaComposite[] composites = new AlphaComposite[256];
+    private static final Map<Font, Map<String, GlyphVector>> glyphs = new HashMap<>();
+    private static FontRenderContext glyphContext;
+
+    private RenderResources() { }
+
+    // ==================== SPRITE PELURU ====================
+
+    /**
+     * Sprite peluru ber-glow berukuran (size + 2*GLOW) persegi
+     * Digambar di (x - GLOW, y - GLOW) untuk peluru di (x, y)
+     * @param kind PLAYER_BULLET atau ENEMY_BULLET
+     * @return null jika size tidak positif (tidak ada yang digambar)
+     */
+    static BufferedImage bulletSprite(int kind, int size) {
+        if (size <= 0) return null;
+        if (size >= bulletSprites[kind].length) {
+            bulletSprites[kind] = Arrays.copyOf(bulletSprites[kind], size + 1);
+        }
+        BufferedImage sprite = bulletSprites[kind][size];
+        if (sprite == null) {
+            sprite = createBulletSprite(BULLET_CORES[kind], BULLET_GLOWS[kind], size);
+            bulletSprites[kind][size] = sprite;
+        }
+        return sprite;
+    }
+
+    private static BufferedImage createBulletSprite(Color core, Color glow, int size) {
+        int extent = size + 2 * GLOW;
+        BufferedImage image = compatibleImage(extent, extent);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.setColor(glow);
+        g.fillOval(0, 0, extent, extent);
+        g.setColor(core);
+        g.fillOval(GLOW, GLOW, size, size);
+        g.dispose();
+        return image;
+    }
+
+    /**
+     * Gambar transparan dengan format layar (bisa diakselerasi),
+     * atau ARGB biasa jika headless
+     */
+    static BufferedImage compatibleImage(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+            return config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    // ==================== COMPOSITE ====================
+
+    /** AlphaComposite SRC_OVER dengan opacity 0..1 (dibulatkan ke 1/255) */
+    static AlphaComposite alpha(float opacity) {
+        int level = Math.round(Math.max(0f, Math.min(1f, opacity)) * 255);
+        AlphaComposite composite = composites[level];
+        if (composite == null) {
+            composite = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, level / 255f);
+            composites[level] = composite;
+        }
+        return composite;
+    }
+
+    // ==================== TEKS ====================
+
+    /**
+     * Gambar teks statis memakai GlyphVector yang di-cache
+     * Font dan warna diambil dari Graphics saat ini
+     */
+    static void drawText(Graphics2D g, String text, int x, int y) {
+        g.drawGlyphVector(glyphs(g, text), x, y);
+    }
+
+    /**
+     * Lebar teks statis (pixel) sesuai font Graphics saat ini
+     */
+    static int textWidth(Graphics2D g, String text) {
+        return (int) Math.ceil(glyphs(g, text).getLogicalBounds().getWidth());
+    }
+
+    private static GlyphVector glyphs(Graphics2D g, String text) {
+        FontRenderContext context = g.getFontRenderContext();
+        if (!context.equals(glyphContext)) {
+            glyphs.clear();
+            glyphContext = context;
+        }
+        Font font = g.getFont();
+        Map<String, GlyphVector> byText = glyphs.get(font);
+        if (byText == null) {
+            byText = new HashMap<>();
+            glyphs.put(font, byText);
+        }
+        GlyphVector vector = byText.get(text);
+        if (vector == null) {
+            vector = font.createGlyphVector(context, text);
+            byText.put(text, vector);
+        }
+        return vector;
+    }
+
+    /**
+     * Label "prefix + angka" yang String-nya hanya dibuat ulang saat angka berubah
+     */
+    static final class Label {
+        private final String prefix;
+        private final String separator;
+        private long lastKey = Long.MIN_VALUE;
+        private String text = "";
+
+        Label(String prefix) {
+            this(prefix, "");
+        }
+
+        /** @param separator Pemisah dua angka, misal "/" untuk "HP: 80/100" */
+        Label(String prefix, String separator) {
+            this.prefix = prefix;
+            this.separator = separator;
+        }
+
+        String of(int value) {
+            if (value != lastKey) {
+                lastKey = value;
+                text = prefix + value;
+            }
+            return text;
+        }
+
+        String of(int value, int max) {
+            long key = ((long) value << 32) | (max & 0xFFFFFFFFL);
+            if (key != lastKey) {
+                lastKey = key;
+                text = prefix + value + separator + max;
+            }
+            return text;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package view;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SpriteBatch - Mengumpulkan semua gambar sprite satu frame lalu menggambarnya berurutan
+ * Setiap draw() hanya menulis satu perintah ke buffer array primitif (tanpa
+ * objek per perintah). flush() mengurutkan perintah berdasarkan layer lalu
+ * tekstur, kemudian menggambarnya dalam loop rapat sehingga pergantian
+ * tekstur seminimal mungkin.
+ *
+ * Kunci urut 64-bit: layer (8) | tekstur (16) | (tidak dipakai, 8) | urutan (32).
+ * Urutan submit ikut di kunci, jadi perintah dengan state yang sama tetap
+ * digambar sesuai urutan submit. Layer menjaga urutan tumpukan antar jenis
+ * objek; di dalam satu layer sprite dikelompokkan per tekstur.
+ * Buffer dipakai ulang antar frame. Hanya dipakai dari EDT.
+ */
+final class SpriteBatch {
+
+    // ==================== KONSTANTA ====================
+    static final int MAX_LAYER = 127;
+    private static final int MAX_TEXTURES = 1 << 16;
+
+    // ==================== TEKSTUR ====================
+    private final Map<BufferedImage, Integer> textureIds = new IdentityHashMap<>();
+    private final List<BufferedImage> textures = new ArrayList<>();
+
+    // ==================== BUFFER PERINTAH ====================
+    private long[] keys = new long[256];
+    private int[] xs = new int[256];
+    private int[] ys = new int[256];
+    private int[] widths = new int[256];
+    private int[] heights = new int[256];
+    private int count = 0;
+
+    // ==================== COUNTER (flush terakhir) ====================
+    private int drawCalls = 0;
+    private int stateChanges = 0;
+
+    /**
+     * Antrikan sprite
+     * @param layer 0..MAX_LAYER, layer kecil digambar lebih dulu
+     */
+    void draw(int layer, BufferedImage image, int x, int y, int width, int height) {
+        if (layer < 0 || layer > MAX_LAYER) {
+            throw new IllegalArgumentException("Layer out of range: " + layer);
+        }
+        ensureCapacity(count + 1);
+
+        int i = count++;
+        keys[i] = ((long) layer << 56) | ((long) textureId(image) << 40) | i;
+        xs[i] = x;
+        ys[i] = y;
+        widths[i] = width;
+        heights[i] = height;
+    }
+
+    /**
+     * Urutkan lalu gambar semua perintah, kemudian kosongkan buffer
+     */
+    void flush(Graphics2D g) {
+        Arrays.sort(keys, 0, count);
+
+        int texture = -1;
+        int calls = 0;
+        int changes = 0;
+        BufferedImage image = null;
+        for (int k = 0; k < count; k++) {
+            long key = keys[k];
+            int i = (int) key;
+            int nextTexture = (int) (key >>> 40) & (MAX_TEXTURES - 1);
+
+            if (nextTexture != texture) {
+                texture = nextTexture;
+                image = textures.get(texture);
+                changes++;
+            }
+            g.drawImage(image, xs[i], ys[i], widths[i], heights[i], null);
+            calls++;
+        }
+
+        drawCalls = calls;
+        stateChanges = changes;
+        count = 0;
+    }
+
+    /** Jumlah drawImage pada flush terakhir */
+    int getDrawCalls() { return drawCalls; }
+
+    /** Jumlah pergantian tekstur pada flush terakhir */
+    int getStateChanges() { return stateChanges; }
+
+    // ==================== HELPER ====================
+
+    /**
+     * Id tekstur untuk gambar; gambar baru didaftarkan saat pertama dipakai
+     */
+    private int textureId(BufferedImage image) {
+        Integer id = textureIds.get(image);
+        if (id != null) return id;
+        if (textures.size() == MAX_TEXTURES) {
+            throw new IllegalStateException("Too many textures in sprite batch");
+        }
+        int created = textures.size();
+        textures.add(image);
+        textureIds.put(image, created);
+        return created;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= keys.length) return;
+        int size = Math.max(needed, keys.length * 2);
+        keys = Arrays.copyOf(keys, size);
+        xs = Arrays.copyOf(xs, size);
+        ys = Arrays.copyOf(ys, size);
+        widths = Arrays.copyOf(widths, size);
+        heights = Arrays.copyOf(heights, size);
+    }
+}